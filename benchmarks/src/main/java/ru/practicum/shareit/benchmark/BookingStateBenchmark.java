@@ -0,0 +1,22 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookingStateBenchmark {
+
+    @Param({"ALL", "FUTURE", "UNSUPPORTED"})
+    private String state;
+
+    @Benchmark
+    public boolean isValidValue() {
+        return ru.practicum.shareit.booking.model.State.isValidValue(state);
+    }
+}
@@ -0,0 +1,128 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import ru.practicum.shareit.booking.dto.BookingConverter;
+import ru.practicum.shareit.booking.dto.BookingConverterImpl;
+import ru.practicum.shareit.booking.dto.BookingGetResponse;
+import ru.practicum.shareit.booking.dto.BookingResponse;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.item.dto.CommentConverter;
+import ru.practicum.shareit.item.dto.CommentConverterImpl;
+import ru.practicum.shareit.item.dto.CommentResponse;
+import ru.practicum.shareit.item.dto.ItemConverter;
+import ru.practicum.shareit.item.dto.ItemConverterImpl;
+import ru.practicum.shareit.item.dto.ItemGetResponse;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.itemRequest.dto.ItemRequestConverter;
+import ru.practicum.shareit.itemRequest.dto.ItemRequestConverterImpl;
+import ru.practicum.shareit.itemRequest.dto.ItemRequestGetResponse;
+import ru.practicum.shareit.itemRequest.model.ItemRequest;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConverterBenchmark {
+
+    @Param({"10", "100"})
+    private int listSize;
+
+    private final BookingConverter bookingConverter = new BookingConverterImpl();
+    private final ItemConverter itemConverter = new ItemConverterImpl();
+    private final ItemRequestConverter itemRequestConverter = new ItemRequestConverterImpl();
+    private final CommentConverter commentConverter = new CommentConverterImpl();
+
+    private Booking booking;
+    private List<Booking> bookings;
+    private Item item;
+    private List<ItemRequest> itemRequests;
+    private List<Comment> comments;
+
+    @Setup
+    public void setup() {
+        LocalDateTime now = LocalDateTime.now();
+        User owner = user(1L);
+        User booker = user(2L);
+        item = item(1L, owner);
+
+        bookings = new ArrayList<>();
+        comments = new ArrayList<>();
+        itemRequests = new ArrayList<>();
+        for (long i = 1; i <= listSize; i++) {
+            Booking next = new Booking();
+            next.setId(i);
+            next.setItem(item);
+            next.setBooker(booker);
+            next.setStatus(Status.APPROVED);
+            next.setStart(now.plusDays(i));
+            next.setEnd(now.plusDays(i + 1));
+            bookings.add(next);
+
+            comments.add(new Comment("comment " + i, item, booker, now.minusDays(i)));
+
+            ItemRequest request = new ItemRequest();
+            request.setId(i);
+            request.setDescription("request " + i);
+            request.setCreated(now.minusHours(i));
+            request.setOwner(booker);
+            Item answer = item(i + 1, owner);
+            answer.setRequest(request);
+            request.setItems(List.of(answer));
+            itemRequests.add(request);
+        }
+        booking = bookings.get(0);
+    }
+
+    @Benchmark
+    public BookingResponse bookingToBookingResponse() {
+        return bookingConverter.bookingConvertToBookingResponse(booking);
+    }
+
+    @Benchmark
+    public List<BookingGetResponse> bookingsToBookingGetResponses() {
+        return bookingConverter.bookingConvertToBookingGetResponse(bookings);
+    }
+
+    @Benchmark
+    public ItemGetResponse itemToItemGetResponse() {
+        return itemConverter.itemConvertToItemGetResponse(item);
+    }
+
+    @Benchmark
+    public List<ItemRequestGetResponse> itemRequestsToGetResponses() {
+        return itemRequestConverter.convertToListGetResponse(itemRequests);
+    }
+
+    @Benchmark
+    public List<CommentResponse> commentsToCommentResponses() {
+        return commentConverter.convert(comments);
+    }
+
+    private static User user(Long id) {
+        User user = new User();
+        user.setId(id);
+        user.setName("user" + id);
+        user.setEmail("user" + id + "@mail.ru");
+        return user;
+    }
+
+    private static Item item(Long id, User owner) {
+        Item item = new Item();
+        item.setId(id);
+        item.setName("item" + id);
+        item.setDescription("description " + id);
+        item.setAvailable(true);
+        item.setOwner(owner);
+        return item;
+    }
+}
@@ -0,0 +1,29 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.utility.PaginationUtil;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaginationBenchmark {
+
+    private Long from = 40L;
+    private Long size = 20L;
+
+    @Benchmark
+    public Pageable getPageable() {
+        return PaginationUtil.getPageable(from, size);
+    }
+
+    @Benchmark
+    public Pageable getPageableUnpaged() {
+        return PaginationUtil.getPageable(null, null);
+    }
+}
@@ -0,0 +1,70 @@
+package ru.practicum.shareit.benchmark;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.booking.model.Status;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Inserts into an empty schema, so generated ids follow insertion order:
+// user i owns request i and items (i - 1) * itemsPerUser + 1 .. i * itemsPerUser
+@RequiredArgsConstructor
+class SeedData {
+    private static final int batchSize = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int users;
+    private final int itemsPerUser;
+    private final int bookingsPerItem;
+
+    void seed() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>();
+        for (int user = 1; user <= users; user++) {
+            rows.add(new Object[]{"user" + user, "user" + user + "@mail.ru"});
+        }
+        insert("INSERT INTO users (name, email) VALUES (?, ?)", rows);
+
+        for (int user = 1; user <= users; user++) {
+            rows.add(new Object[]{"request of user " + user, user, Timestamp.valueOf(now.minusDays(user % 30))});
+        }
+        insert("INSERT INTO requests (description, requester_id, created) VALUES (?, ?, ?)", rows);
+
+        for (int user = 1; user <= users; user++) {
+            for (int i = 0; i < itemsPerUser; i++) {
+                Integer request = i == 0 ? user % users + 1 : null;
+                rows.add(new Object[]{"item " + i + " of user " + user, "description " + i, i % 4 != 3, user, request});
+            }
+        }
+        insert("INSERT INTO items (name, description, available, owner_id, request_id) VALUES (?, ?, ?, ?, ?)", rows);
+
+        int items = users * itemsPerUser;
+        Status[] statuses = Status.values();
+        for (int item = 1; item <= items; item++) {
+            int owner = (item - 1) / itemsPerUser + 1;
+            for (int i = 0; i < bookingsPerItem; i++) {
+                int booker = (owner + i) % users + 1;
+                LocalDateTime start = now.plusDays(2L * (i - bookingsPerItem / 2));
+                rows.add(new Object[]{Timestamp.valueOf(start), Timestamp.valueOf(start.plusDays(1)), item, booker,
+                        statuses[i % statuses.length].ordinal()});
+            }
+        }
+        insert("INSERT INTO bookings (booking_start, booking_end, item_id, user_id, status) VALUES (?, ?, ?, ?, ?)", rows);
+
+        for (int item = 1; item <= items; item++) {
+            int owner = (item - 1) / itemsPerUser + 1;
+            rows.add(new Object[]{"comment on item " + item, item, owner % users + 1, Timestamp.valueOf(now.minusDays(1))});
+        }
+        insert("INSERT INTO comments (text, item_id, user_id, create_time) VALUES (?, ?, ?, ?)", rows);
+    }
+
+    private void insert(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + batchSize, rows.size())));
+        }
+        rows.clear();
+    }
+}
@@ -0,0 +1,98 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.ShareItServer;
+import ru.practicum.shareit.booking.dto.BookingGetResponse;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.dto.ItemGetResponse;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.itemRequest.dto.ItemRequestGetResponse;
+import ru.practicum.shareit.itemRequest.service.ItemRequestService;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceBenchmark {
+
+    @Param({"1000"})
+    private int users;
+
+    @Param({"5"})
+    private int itemsPerUser;
+
+    @Param({"10"})
+    private int bookingsPerItem;
+
+    @Param({"20"})
+    private long pageSize;
+
+    private ConfigurableApplicationContext context;
+    private BookingService bookingService;
+    private ItemService itemService;
+    private ItemRequestService itemRequestService;
+    private long nextUser;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new SpringApplicationBuilder(ShareItServer.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .run("--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "--logging.level.root=WARN");
+        new SeedData(context.getBean(JdbcTemplate.class), users, itemsPerUser, bookingsPerItem).seed();
+        bookingService = context.getBean(BookingService.class);
+        itemService = context.getBean(ItemService.class);
+        itemRequestService = context.getBean(ItemRequestService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<BookingGetResponse> getUserBookings() {
+        return bookingService.getUserBookings(nextUserId(), "ALL", 0L, pageSize);
+    }
+
+    @Benchmark
+    public List<BookingGetResponse> getOwnerBookings() {
+        return bookingService.getOwnerBookings(nextUserId(), "ALL", 0L, pageSize);
+    }
+
+    @Benchmark
+    public List<BookingGetResponse> getOwnerFutureBookings() {
+        return bookingService.getOwnerBookings(nextUserId(), "FUTURE", 0L, pageSize);
+    }
+
+    @Benchmark
+    public List<ItemGetResponse> getOwnerItems() {
+        return itemService.getAll(nextUserId(), 0L, pageSize);
+    }
+
+    @Benchmark
+    public ItemGetResponse getItem() {
+        long userId = nextUserId();
+        return itemService.get((userId - 1) * itemsPerUser + 1, userId);
+    }
+
+    @Benchmark
+    public List<ItemRequestGetResponse> getUserItemRequests() {
+        return itemRequestService.getUserItemRequests(nextUserId());
+    }
+
+    private long nextUserId() {
+        nextUser = nextUser % users + 1;
+        return nextUser;
+    }
+}
@@ -0,0 +1,184 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+@Component
+@Slf4j
+public class ResponseCache {
+    private static final String ALL_FAMILIES = "*";
+    private static final Map<String, List<String>> INVALIDATES = Map.of(
+            "users", List.of(ALL_FAMILIES),
+            "items", List.of("items", "requests"),
+            "bookings", List.of("bookings", "items"),
+            "requests", List.of("requests")
+    );
+    private static final Set<String> CACHEABLE_FAMILIES = Set.of("users", "items", "requests", "bookings");
+    // Booking lists are filtered by state, which changes with the clock and with other users' approvals
+    private static final Pattern CACHEABLE_BOOKING = Pattern.compile("/bookings/\\d+");
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+    private final AtomicLong allFamiliesGeneration = new AtomicLong();
+    private final boolean enabled;
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final Counter hits;
+    private final Counter staleHits;
+    private final Counter misses;
+    private final Counter revalidations;
+
+    public ResponseCache(@Value("${shareit-gateway.cache.enabled:true}") boolean enabled,
+                         @Value("${shareit-gateway.cache.ttl-ms:5000}") long ttlMillis,
+                         @Value("${shareit-gateway.cache.max-entries:10000}") int maxEntries,
+                         MeterRegistry registry) {
+        this.enabled = enabled;
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+        this.hits = lookups(registry, "hit");
+        this.staleHits = lookups(registry, "stale");
+        this.misses = lookups(registry, "miss");
+        this.revalidations = Counter.builder("shareit.gateway.cache.revalidations")
+                .description("Stale entries confirmed by a 304 from shareit-server")
+                .register(registry);
+        registry.gaugeMapSize("shareit.gateway.cache.size", Tags.empty(), entries);
+    }
+
+    @Nullable
+    public Entry lookup(@Nullable Long userId, URI uri) {
+        if (!enabled || !isCacheable(uri)) {
+            return null;
+        }
+        Entry entry = entries.get(key(userId, uri));
+        if (entry == null) {
+            misses.increment();
+        } else if (entry.isFresh()) {
+            hits.increment();
+        } else {
+            staleHits.increment();
+        }
+        return entry;
+    }
+
+    // Taken when a GET is sent; a response whose family was invalidated since then is not stored
+    public long generation(URI uri) {
+        return allFamiliesGeneration.get() + familyGeneration(family(uri)).get();
+    }
+
+    public void store(@Nullable Long userId, URI uri, ResponseEntity<byte[]> response, long generation) {
+        String etag = response.getHeaders().getETag();
+        if (!enabled || !isCacheable(uri) || !response.getStatusCode().is2xxSuccessful() || etag == null) {
+            return;
+        }
+        if (entries.size() >= maxEntries) {
+            purge();
+        }
+        put(userId, uri, new Entry(family(uri), etag, response, expiry()), generation);
+    }
+
+    public ResponseEntity<byte[]> revalidated(@Nullable Long userId, URI uri, Entry entry, long generation) {
+        revalidations.increment();
+        put(userId, uri, new Entry(entry.family, entry.etag, entry.response, expiry()), generation);
+        return entry.response;
+    }
+
+    public void invalidate(URI uri) {
+        if (!enabled) {
+            return;
+        }
+        List<String> families = INVALIDATES.getOrDefault(family(uri), List.of(ALL_FAMILIES));
+        if (families.contains(ALL_FAMILIES)) {
+            allFamiliesGeneration.incrementAndGet();
+            entries.clear();
+        } else {
+            families.forEach(family -> familyGeneration(family).incrementAndGet());
+            entries.values().removeIf(entry -> families.contains(entry.family));
+        }
+        log.debug("Invalidated cached responses of {} after write to {}", families, uri);
+    }
+
+    private static Counter lookups(MeterRegistry registry, String result) {
+        return Counter.builder("shareit.gateway.cache.lookups")
+                .description("Gateway response cache lookups")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    static boolean isCacheable(URI uri) {
+        String family = family(uri);
+        return CACHEABLE_FAMILIES.contains(family)
+                && (!family.equals("bookings") || CACHEABLE_BOOKING.matcher(uri.getPath()).matches());
+    }
+
+    // Putting before re-checking the generation means an invalidation either sees the entry or moved the generation
+    private void put(@Nullable Long userId, URI uri, Entry entry, long generation) {
+        String key = key(userId, uri);
+        entries.put(key, entry);
+        if (generation(uri) != generation) {
+            entries.remove(key, entry);
+        }
+    }
+
+    private AtomicLong familyGeneration(String family) {
+        return generations.computeIfAbsent(family, name -> new AtomicLong());
+    }
+
+    private void purge() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> !entry.isFresh(now));
+        if (entries.size() >= maxEntries) {
+            entries.clear();
+        }
+    }
+
+    private long expiry() {
+        return System.currentTimeMillis() + ttlMillis;
+    }
+
+    private static String key(@Nullable Long userId, URI uri) {
+        return userId + " " + uri;
+    }
+
+    static String family(URI uri) {
+        for (String segment : uri.getPath().split("/")) {
+            if (!segment.isEmpty()) {
+                return segment;
+            }
+        }
+        return "";
+    }
+
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Entry {
+        private final String family;
+        private final String etag;
+        private final ResponseEntity<byte[]> response;
+        private final long expiresAt;
+
+        public boolean isFresh() {
+            return isFresh(System.currentTimeMillis());
+        }
+
+        private boolean isFresh(long now) {
+            return now < expiresAt;
+        }
+    }
+}
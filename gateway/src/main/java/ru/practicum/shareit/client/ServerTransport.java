@@ -0,0 +1,112 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@Slf4j
+public class ServerTransport {
+    private static final Set<String> HOP_BY_HOP_HEADERS = Set.of(
+            "connection", "keep-alive", "proxy-authenticate", "proxy-authorization",
+            "te", "trailer", "transfer-encoding", "upgrade", "content-length"
+    );
+
+    public static final String serverRequestsTimer = "shareit.gateway.server.requests";
+
+    @Nullable
+    private final WebClient webClient;
+    private final MeterRegistry registry;
+
+    public ServerTransport(@Value("${shareit-gateway.client.mode:NON_BLOCKING}") Mode mode,
+                           WebClient.Builder webClientBuilder, MeterRegistry registry) {
+        this.webClient = mode == Mode.NON_BLOCKING ? webClientBuilder.build() : null;
+        this.registry = registry;
+        log.info("Forwarding requests to shareit-server in {} mode", mode);
+    }
+
+    public <T> Mono<ResponseEntity<byte[]>> exchange(RestTemplate rest, HttpMethod method, URI uri,
+                                                     HttpEntity<T> requestEntity) {
+        return Mono.defer(() -> {
+            long started = System.nanoTime();
+            return send(rest, method, uri, requestEntity)
+                    .doOnNext(response -> record(method, uri, String.valueOf(response.getStatusCodeValue()), started))
+                    .doOnError(e -> record(method, uri, "IO_ERROR", started));
+        });
+    }
+
+    private <T> Mono<ResponseEntity<byte[]>> send(RestTemplate rest, HttpMethod method, URI uri,
+                                                  HttpEntity<T> requestEntity) {
+        if (webClient == null) {
+            return Mono.fromCallable(() -> blockingExchange(rest, method, uri, requestEntity));
+        }
+        WebClient.RequestBodySpec request = webClient.method(method)
+                .uri(uri)
+                .headers(headers -> headers.addAll(requestEntity.getHeaders()));
+        WebClient.RequestHeadersSpec<?> spec = requestEntity.hasBody()
+                ? request.bodyValue(requestEntity.getBody())
+                : request;
+        return spec.exchangeToMono(ServerTransport::toGatewayResponse);
+    }
+
+    private void record(HttpMethod method, URI uri, String status, long started) {
+        Timer.builder(serverRequestsTimer)
+                .description("Gateway to shareit-server round trips")
+                .tag("method", method.name())
+                .tag("resource", ResponseCache.family(uri))
+                .tag("status", status)
+                .register(registry)
+                .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+    }
+
+    private static <T> ResponseEntity<byte[]> blockingExchange(RestTemplate rest, HttpMethod method, URI uri,
+                                                               HttpEntity<T> requestEntity) {
+        try {
+            return relay(rest.exchange(uri, method, requestEntity, byte[].class));
+        } catch (HttpStatusCodeException e) {
+            return relay(e.getRawStatusCode(), e.getResponseHeaders(), e.getResponseBodyAsByteArray());
+        }
+    }
+
+    private static Mono<ResponseEntity<byte[]>> toGatewayResponse(ClientResponse response) {
+        return response.toEntity(byte[].class).map(ServerTransport::relay);
+    }
+
+    private static ResponseEntity<byte[]> relay(ResponseEntity<byte[]> response) {
+        return relay(response.getStatusCodeValue(), response.getHeaders(), response.getBody());
+    }
+
+    private static ResponseEntity<byte[]> relay(int status, @Nullable HttpHeaders serverHeaders, @Nullable byte[] body) {
+        HttpHeaders headers = new HttpHeaders();
+        if (serverHeaders != null) {
+            serverHeaders.forEach((name, values) -> {
+                if (!HOP_BY_HOP_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                    headers.addAll(name, values);
+                }
+            });
+        }
+        return ResponseEntity.status(status).headers(headers).body(body);
+    }
+
+    public enum Mode {
+        BLOCKING,
+        NON_BLOCKING
+    }
+}
@@ -4,14 +4,18 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ResponseCache;
+import ru.practicum.shareit.client.ServerTransport;
 import ru.practicum.shareit.item.dto.CommentCreateRequest;
 import ru.practicum.shareit.item.dto.ItemCreateRequest;
 import ru.practicum.shareit.item.dto.ItemUpdateRequest;
 
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.Map;
 
 @Service
@@ -19,36 +23,47 @@ public class ItemClient extends BaseClient {
     private static final String API_PREFIX = "/items";
 
     @Autowired
-    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                      ServerTransport transport, ResponseCache responseCache) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
+                        .build(),
+                transport,
+                responseCache
         );
     }
 
-    public ResponseEntity<Object> createItem(ItemCreateRequest request, Long userId) {
+    public Mono<ResponseEntity<byte[]>> createItem(ItemCreateRequest request, Long userId) {
         return post("", userId, request);
     }
 
-    public ResponseEntity<Object> updateItem(ItemUpdateRequest request, Long userId, Long itemId) {
+    public Mono<ResponseEntity<byte[]>> updateItem(ItemUpdateRequest request, Long userId, Long itemId) {
         return patch("/" + itemId, userId, request);
     }
 
-    public ResponseEntity<Object> getItem(Long itemId, Long userId) {
+    public Mono<ResponseEntity<byte[]>> getItem(Long itemId, Long userId) {
         return get("/" + itemId, userId);
     }
 
-    public ResponseEntity<Object> getAllItems(Long userId, Long from, Long size) {
-        Map<String, Object> parameters = Map.of(
+    public Mono<ResponseEntity<byte[]>> getAllItems(Long userId, Long from, Long size, String cursor) {
+        Map<String, Object> parameters = new HashMap<>(Map.of(
                 "from", from,
                 "size", size
+        ));
+        return get(withCursor("?from={from}&size={size}", parameters, cursor), userId, parameters);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getAvailability(Long userId, Long itemId, LocalDateTime from, LocalDateTime to) {
+        Map<String, Object> parameters = Map.of(
+                "itemId", itemId,
+                "from", from,
+                "to", to
         );
-        return get("?from={from}&size={size}", userId, parameters);
+        return get("/{itemId}/availability?from={from}&to={to}", userId, parameters);
     }
 
-    public ResponseEntity<Object> search(Long userId, String str, Long from, Long size) {
+    public Mono<ResponseEntity<byte[]>> search(Long userId, String str, Long from, Long size) {
         Map<String, Object> parameters = Map.of(
                 "text", str,
                 "from", from,
@@ -57,7 +72,7 @@ public class ItemClient extends BaseClient {
         return get("/search?text={text}&from={from}&size={size}", userId, parameters);
     }
 
-    public ResponseEntity<Object> createComment(Long userId, Long itemId, CommentCreateRequest request) {
+    public Mono<ResponseEntity<byte[]>> createComment(Long userId, Long itemId, CommentCreateRequest request) {
         Map<String, Object> parameters = Map.of(
                 "itemId", itemId
         );
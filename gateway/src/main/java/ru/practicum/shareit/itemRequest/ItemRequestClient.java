@@ -4,12 +4,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ResponseCache;
+import ru.practicum.shareit.client.ServerTransport;
 import ru.practicum.shareit.itemRequest.dto.ItemRequestCreateRequest;
 
+import java.util.HashMap;
 import java.util.Map;
 
 @Service
@@ -17,32 +20,34 @@ public class ItemRequestClient extends BaseClient {
     private static final String API_PREFIX = "/requests";
 
     @Autowired
-    public ItemRequestClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public ItemRequestClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                             ServerTransport transport, ResponseCache responseCache) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
+                        .build(),
+                transport,
+                responseCache
         );
     }
 
-    public ResponseEntity<Object> createRequest(ItemRequestCreateRequest request, Long userId) {
+    public Mono<ResponseEntity<byte[]>> createRequest(ItemRequestCreateRequest request, Long userId) {
         return post("", userId, request);
     }
 
-    public ResponseEntity<Object> getUserItemRequests(Long userId) {
+    public Mono<ResponseEntity<byte[]>> getUserItemRequests(Long userId) {
         return get("", userId);
     }
 
-    public ResponseEntity<Object> getUserItemRequests(Long userId, Long from, Long size) {
-        Map<String, Object> parameters = Map.of(
+    public Mono<ResponseEntity<byte[]>> getUserItemRequests(Long userId, Long from, Long size, String cursor) {
+        Map<String, Object> parameters = new HashMap<>(Map.of(
                 "from", from,
                 "size", size
-        );
-        return get("/all?from={from}&size={size}", userId, parameters);
+        ));
+        return get(withCursor("/all?from={from}&size={size}", parameters, cursor), userId, parameters);
     }
 
-    public ResponseEntity<Object> getRequest(Long userId, Long requestId) {
+    public Mono<ResponseEntity<byte[]>> getRequest(Long userId, Long requestId) {
         Map<String, Object> parameters = Map.of(
                 "requestId", requestId
         );
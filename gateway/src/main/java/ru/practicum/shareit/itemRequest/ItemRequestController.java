@@ -6,6 +6,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.itemRequest.dto.ItemRequestCreateRequest;
 
 import static ru.practicum.shareit.utility.ControllerConstants.xSharerUserId;
@@ -19,29 +20,30 @@ public class ItemRequestController {
     private final ItemRequestClient requestClient;
 
     @PostMapping
-    public ResponseEntity<Object> create(@RequestHeader(xSharerUserId) Long userId,
-                                         @RequestBody(required = false) ItemRequestCreateRequest request) {
+    public Mono<ResponseEntity<byte[]>> create(@RequestHeader(xSharerUserId) Long userId,
+                                               @RequestBody(required = false) ItemRequestCreateRequest request) {
         log.info("Creating item request for user {}, request={}", userId, request);
         return requestClient.createRequest(request, userId);
     }
 
     @GetMapping
-    public ResponseEntity<Object> get(@RequestHeader(xSharerUserId) Long userId) {
+    public Mono<ResponseEntity<byte[]>> get(@RequestHeader(xSharerUserId) Long userId) {
         log.info("Getting all item requests for user {}", userId);
         return requestClient.getUserItemRequests(userId);
     }
 
     @GetMapping("/all")
-    public ResponseEntity<Object> get(@RequestHeader(xSharerUserId) Long userId,
-                                      @RequestParam(required = false, name = "from", defaultValue = "0") Long from,
-                                      @RequestParam(required = false, name = "size", defaultValue = "10") Long size) {
-        log.info("Getting all item requests for user {} from {} with size {}", userId, from, size);
-        return requestClient.getUserItemRequests(userId, from, size);
+    public Mono<ResponseEntity<byte[]>> get(@RequestHeader(xSharerUserId) Long userId,
+                                            @RequestParam(required = false, name = "from", defaultValue = "0") Long from,
+                                            @RequestParam(required = false, name = "size", defaultValue = "10") Long size,
+                                            @RequestParam(required = false, name = "cursor") String cursor) {
+        log.info("Getting all item requests for user {} from {} with size {}, cursor {}", userId, from, size, cursor);
+        return requestClient.getUserItemRequests(userId, from, size, cursor);
     }
 
     @GetMapping("/{requestId}")
-    public ResponseEntity<Object> getRequest(@RequestHeader(xSharerUserId) Long userId,
-                                             @PathVariable Long requestId) {
+    public Mono<ResponseEntity<byte[]>> getRequest(@RequestHeader(xSharerUserId) Long userId,
+                                                   @PathVariable Long requestId) {
         log.info("Getting item request {} for user {}", requestId, userId);
         return requestClient.getRequest(userId, requestId);
     }
@@ -6,6 +6,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.user.dto.UserCreateRequest;
 import ru.practicum.shareit.user.dto.UserUpdateRequest;
 
@@ -22,32 +23,32 @@ public class UserController {
     private final UserClient userClient;
 
     @PostMapping
-    public ResponseEntity<Object> create(@RequestBody UserCreateRequest request) {
+    public Mono<ResponseEntity<byte[]>> create(@RequestBody UserCreateRequest request) {
         log.info("Creating user: {}", request);
         return userClient.createUser(request);
     }
 
     @PatchMapping("/{userId}")
-    public ResponseEntity<Object> update(@Valid @RequestBody UserUpdateRequest request,
-                                         @PositiveOrZero @PathVariable Long userId) {
+    public Mono<ResponseEntity<byte[]>> update(@Valid @RequestBody UserUpdateRequest request,
+                                               @PositiveOrZero @PathVariable Long userId) {
         log.info("Updating user with ID {}: {}", userId, request);
         return userClient.updateUser(request, userId);
     }
 
     @GetMapping("/{userId}")
-    public ResponseEntity<Object> get(@PositiveOrZero @PathVariable Long userId) {
+    public Mono<ResponseEntity<byte[]>> get(@PositiveOrZero @PathVariable Long userId) {
         log.info("Getting user with ID: {}", userId);
         return userClient.getUser(userId);
     }
 
     @DeleteMapping("/{userId}")
-    public ResponseEntity<Object> delete(@PositiveOrZero @PathVariable Long userId) {
+    public Mono<ResponseEntity<byte[]>> delete(@PositiveOrZero @PathVariable Long userId) {
         log.info("Deleting user with ID: {}", userId);
         return userClient.deleteUser(userId);
     }
 
     @GetMapping
-    public ResponseEntity<Object> getAll() {
+    public Mono<ResponseEntity<byte[]>> getAll() {
         log.info("Getting all users");
         return userClient.getAllUsers();
     }
@@ -0,0 +1,75 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class BaseClientTest {
+    private static final URI itemUri = URI.create("http://localhost:9090/items/1");
+
+    private final ServerTransport transport = mock(ServerTransport.class);
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void get_StaleEntryAndServerAnswers304_ServesCachedBody() {
+        ResponseCache responseCache = new ResponseCache(true, 0, 100, new SimpleMeterRegistry());
+        ResponseEntity<byte[]> firstResponse = ResponseEntity.ok().eTag("\"v1\"").body("cached item".getBytes());
+        when(transport.exchange(any(), eq(HttpMethod.GET), eq(itemUri), any()))
+                .thenReturn(Mono.just(firstResponse))
+                .thenReturn(Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag("\"v1\"").build()));
+        TestClient client = new TestClient(transport, responseCache);
+
+        client.getItem(1L).block();
+        ResponseEntity<byte[]> revalidated = client.getItem(1L).block();
+
+        assertEquals(HttpStatus.OK, revalidated.getStatusCode());
+        assertArrayEquals("cached item".getBytes(), revalidated.getBody());
+        ArgumentCaptor<HttpEntity> requests = ArgumentCaptor.forClass(HttpEntity.class);
+        verify(transport, times(2)).exchange(any(), eq(HttpMethod.GET), eq(itemUri), requests.capture());
+        assertTrue(requests.getAllValues().get(0).getHeaders().getIfNoneMatch().isEmpty());
+        assertEquals(List.of("\"v1\""), requests.getAllValues().get(1).getHeaders().getIfNoneMatch());
+    }
+
+    @Test
+    public void get_FreshEntry_DoesNotCallServer() {
+        ResponseCache responseCache = new ResponseCache(true, 60_000, 100, new SimpleMeterRegistry());
+        when(transport.exchange(any(), eq(HttpMethod.GET), eq(itemUri), any()))
+                .thenReturn(Mono.just(ResponseEntity.ok().eTag("\"v1\"").body("item".getBytes())));
+        TestClient client = new TestClient(transport, responseCache);
+
+        client.getItem(1L).block();
+        ResponseEntity<byte[]> cached = client.getItem(1L).block();
+
+        assertArrayEquals("item".getBytes(), cached.getBody());
+        verify(transport, times(1)).exchange(any(), any(), any(), any());
+    }
+
+    private static class TestClient extends BaseClient {
+        TestClient(ServerTransport transport, ResponseCache responseCache) {
+            super(new RestTemplateBuilder()
+                            .uriTemplateHandler(new DefaultUriBuilderFactory("http://localhost:9090/items"))
+                            .build(),
+                    transport,
+                    responseCache);
+        }
+
+        Mono<ResponseEntity<byte[]>> getItem(long userId) {
+            return get("/1", userId);
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.net.URI;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseCacheTest {
+    private static final long userId = 1L;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    public void lookup_NothingStored_IsMiss() {
+        ResponseCache cache = cache(60_000, 100);
+
+        assertNull(cache.lookup(userId, uri("/items/1")));
+        assertEquals(1, lookups("miss"));
+    }
+
+    @Test
+    public void lookup_FreshEntry_IsHit() {
+        ResponseCache cache = cache(60_000, 100);
+        ResponseEntity<byte[]> response = ok("\"v1\"", "item");
+        store(cache, "/items/1", response);
+
+        ResponseCache.Entry entry = cache.lookup(userId, uri("/items/1"));
+
+        assertNotNull(entry);
+        assertTrue(entry.isFresh());
+        assertSame(response, entry.getResponse());
+        assertEquals("\"v1\"", entry.getEtag());
+        assertEquals(1, lookups("hit"));
+    }
+
+    @Test
+    public void lookup_OtherUser_IsMiss() {
+        ResponseCache cache = cache(60_000, 100);
+        store(cache, "/items/1", ok("\"v1\"", "item"));
+
+        assertNull(cache.lookup(2L, uri("/items/1")));
+    }
+
+    @Test
+    public void lookup_ExpiredEntry_IsStale() {
+        ResponseCache cache = cache(0, 100);
+        store(cache, "/items/1", ok("\"v1\"", "item"));
+
+        ResponseCache.Entry entry = cache.lookup(userId, uri("/items/1"));
+
+        assertNotNull(entry);
+        assertFalse(entry.isFresh());
+        assertEquals(1, lookups("stale"));
+    }
+
+    @Test
+    public void store_ResponseWithoutEtagOrNotSuccessful_IsNotCached() {
+        ResponseCache cache = cache(60_000, 100);
+        store(cache, "/items/1", ResponseEntity.ok("item".getBytes()));
+        store(cache, "/items/2", ResponseEntity.status(HttpStatus.NOT_FOUND).eTag("\"v1\"").body(new byte[0]));
+
+        assertNull(cache.lookup(userId, uri("/items/1")));
+        assertNull(cache.lookup(userId, uri("/items/2")));
+    }
+
+    @Test
+    public void lookup_CacheDisabled_AlwaysMisses() {
+        ResponseCache cache = new ResponseCache(false, 60_000, 100, registry);
+        store(cache, "/items/1", ok("\"v1\"", "item"));
+
+        assertNull(cache.lookup(userId, uri("/items/1")));
+    }
+
+    @Test
+    public void revalidated_StaleEntry_ServesCachedBodyAndExtendsTtl() throws InterruptedException {
+        ResponseCache cache = cache(300, 100);
+        ResponseEntity<byte[]> response = ok("\"v1\"", "item");
+        store(cache, "/items/1", response);
+        Thread.sleep(350);
+        ResponseCache.Entry stale = cache.lookup(userId, uri("/items/1"));
+        assertFalse(stale.isFresh());
+
+        assertSame(response, cache.revalidated(userId, uri("/items/1"), stale, cache.generation(uri("/items/1"))));
+
+        ResponseCache.Entry revalidated = cache.lookup(userId, uri("/items/1"));
+        assertTrue(revalidated.isFresh());
+        assertEquals("\"v1\"", revalidated.getEtag());
+        assertEquals(1, registry.get("shareit.gateway.cache.revalidations").counter().count());
+    }
+
+    @Test
+    public void invalidate_BookingWrite_ClearsBookingsAndItemsOnly() {
+        ResponseCache cache = cacheWithEveryFamily();
+
+        cache.invalidate(uri("/bookings/1"));
+
+        assertNull(cache.lookup(userId, uri("/bookings/1")));
+        assertNull(cache.lookup(userId, uri("/items/1")));
+        assertNotNull(cache.lookup(userId, uri("/requests/all")));
+        assertNotNull(cache.lookup(userId, uri("/users/1")));
+    }
+
+    @Test
+    public void invalidate_ItemWrite_ClearsItemsAndRequestsOnly() {
+        ResponseCache cache = cacheWithEveryFamily();
+
+        cache.invalidate(uri("/items/1/comment"));
+
+        assertNull(cache.lookup(userId, uri("/items/1")));
+        assertNull(cache.lookup(userId, uri("/requests/all")));
+        assertNotNull(cache.lookup(userId, uri("/bookings/1")));
+        assertNotNull(cache.lookup(userId, uri("/users/1")));
+    }
+
+    @Test
+    public void invalidate_RequestWrite_ClearsRequestsOnly() {
+        ResponseCache cache = cacheWithEveryFamily();
+
+        cache.invalidate(uri("/requests"));
+
+        assertNull(cache.lookup(userId, uri("/requests/all")));
+        assertNotNull(cache.lookup(userId, uri("/items/1")));
+        assertNotNull(cache.lookup(userId, uri("/bookings/1")));
+        assertNotNull(cache.lookup(userId, uri("/users/1")));
+    }
+
+    @Test
+    public void invalidate_UserWrite_ClearsEverything() {
+        ResponseCache cache = cacheWithEveryFamily();
+
+        cache.invalidate(uri("/users/1"));
+
+        assertNull(cache.lookup(userId, uri("/users/1")));
+        assertNull(cache.lookup(userId, uri("/items/1")));
+        assertNull(cache.lookup(userId, uri("/bookings/1")));
+        assertNull(cache.lookup(userId, uri("/requests/all")));
+    }
+
+    @Test
+    public void store_AtMaxEntriesWithOnlyFreshEntries_StartsOver() {
+        ResponseCache cache = cache(60_000, 2);
+        store(cache, "/items/1", ok("\"v1\"", "item1"));
+        store(cache, "/items/2", ok("\"v2\"", "item2"));
+
+        store(cache, "/items/3", ok("\"v3\"", "item3"));
+
+        assertNull(cache.lookup(userId, uri("/items/1")));
+        assertNull(cache.lookup(userId, uri("/items/2")));
+        assertNotNull(cache.lookup(userId, uri("/items/3")));
+        assertEquals(1, registry.get("shareit.gateway.cache.size").gauge().value());
+    }
+
+    @Test
+    public void store_AtMaxEntriesWithExpiredEntries_DropsExpiredOnly() throws InterruptedException {
+        ResponseCache cache = cache(300, 2);
+        store(cache, "/items/1", ok("\"v1\"", "item1"));
+        Thread.sleep(350);
+        store(cache, "/items/2", ok("\"v2\"", "item2"));
+
+        store(cache, "/items/3", ok("\"v3\"", "item3"));
+
+        assertNull(cache.lookup(userId, uri("/items/1")));
+        assertNotNull(cache.lookup(userId, uri("/items/2")));
+        assertNotNull(cache.lookup(userId, uri("/items/3")));
+    }
+
+    @Test
+    public void store_StateFilteredBookingList_IsNotCached() {
+        ResponseCache cache = cache(60_000, 100);
+        store(cache, "/bookings?state=CURRENT", ok("\"b\"", "bookings"));
+        store(cache, "/bookings/owner?state=WAITING", ok("\"b\"", "bookings"));
+        store(cache, "/bookings/1", ok("\"b\"", "booking"));
+
+        assertNull(cache.lookup(userId, uri("/bookings?state=CURRENT")));
+        assertNull(cache.lookup(userId, uri("/bookings/owner?state=WAITING")));
+        assertNotNull(cache.lookup(userId, uri("/bookings/1")));
+        assertEquals(0, lookups("miss"));
+    }
+
+    @Test
+    public void store_FamilyOutsideAllowList_IsNotCached() {
+        ResponseCache cache = cache(60_000, 100);
+        store(cache, "/admin/1", ok("\"a\"", "admin"));
+
+        assertNull(cache.lookup(userId, uri("/admin/1")));
+    }
+
+    @Test
+    public void store_FamilyInvalidatedWhileGetWasInFlight_IsNotCached() {
+        ResponseCache cache = cache(60_000, 100);
+        long generation = cache.generation(uri("/items/1"));
+
+        cache.invalidate(uri("/bookings/1"));
+        cache.store(userId, uri("/items/1"), ok("\"v1\"", "old item"), generation);
+
+        assertNull(cache.lookup(userId, uri("/items/1")));
+    }
+
+    @Test
+    public void store_UnrelatedFamilyInvalidatedWhileGetWasInFlight_IsCached() {
+        ResponseCache cache = cache(60_000, 100);
+        long generation = cache.generation(uri("/items/1"));
+
+        cache.invalidate(uri("/requests"));
+        cache.store(userId, uri("/items/1"), ok("\"v1\"", "item"), generation);
+
+        assertNotNull(cache.lookup(userId, uri("/items/1")));
+    }
+
+    @Test
+    public void revalidated_EverythingInvalidatedWhileGetWasInFlight_ServesBodyWithoutCaching() {
+        ResponseCache cache = cache(0, 100);
+        ResponseEntity<byte[]> response = ok("\"v1\"", "item");
+        store(cache, "/items/1", response);
+        ResponseCache.Entry stale = cache.lookup(userId, uri("/items/1"));
+        long generation = cache.generation(uri("/items/1"));
+
+        cache.invalidate(uri("/users/1"));
+
+        assertSame(response, cache.revalidated(userId, uri("/items/1"), stale, generation));
+        assertNull(cache.lookup(userId, uri("/items/1")));
+    }
+
+    @Test
+    public void family_FirstPathSegment() {
+        assertEquals("bookings", ResponseCache.family(uri("/bookings/owner?state=ALL")));
+        assertEquals("", ResponseCache.family(uri("/")));
+    }
+
+    private ResponseCache cacheWithEveryFamily() {
+        ResponseCache cache = cache(60_000, 100);
+        store(cache, "/users/1", ok("\"u\"", "user"));
+        store(cache, "/items/1", ok("\"i\"", "item"));
+        store(cache, "/bookings/1", ok("\"b\"", "booking"));
+        store(cache, "/requests/all", ok("\"r\"", "requests"));
+        return cache;
+    }
+
+    private static void store(ResponseCache cache, String path, ResponseEntity<byte[]> response) {
+        cache.store(userId, uri(path), response, cache.generation(uri(path)));
+    }
+
+    private ResponseCache cache(long ttlMillis, int maxEntries) {
+        return new ResponseCache(true, ttlMillis, maxEntries, registry);
+    }
+
+    private double lookups(String result) {
+        return registry.get("shareit.gateway.cache.lookups").tag("result", result).counter().count();
+    }
+
+    private static ResponseEntity<byte[]> ok(String etag, String body) {
+        return ResponseEntity.ok().eTag(etag).body(body.getBytes());
+    }
+
+    private static URI uri(String path) {
+        return URI.create("http://localhost:9090" + path);
+    }
+}
@@ -0,0 +1,140 @@
+package ru.practicum.shareit.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ServerTransportTest {
+    private static HttpServer server;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final RestTemplate rest = new RestTemplate(new HttpComponentsClientHttpRequestFactory());
+
+    @BeforeAll
+    static void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/items/1", exchange -> respond(exchange, 200, "{\"id\":1}"));
+        server.createContext("/items/404", exchange -> respond(exchange, 404, "{\"error\":\"Item not found\"}"));
+        server.createContext("/items/500", exchange -> respond(exchange, 500, "{\"error\":\"boom\"}"));
+        server.createContext("/users", exchange -> {
+            exchange.getResponseHeaders().add("X-Echo-User", exchange.getRequestHeaders().getFirst("X-Sharer-User-Id"));
+            respond(exchange, 201, new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+        });
+        server.start();
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.stop(0);
+    }
+
+    @ParameterizedTest
+    @EnumSource(ServerTransport.Mode.class)
+    public void exchange_Success_RelaysStatusHeadersAndBody(ServerTransport.Mode mode) {
+        ResponseEntity<byte[]> response = transport(mode).exchange(rest, HttpMethod.GET, uri("/items/1"), request(null)).block();
+
+        assertEquals(200, response.getStatusCodeValue());
+        assertEquals("{\"id\":1}", body(response));
+        assertEquals("\"v1\"", response.getHeaders().getETag());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertEquals("custom", response.getHeaders().getFirst("X-Custom"));
+        assertEquals(1, registry.get(ServerTransport.serverRequestsTimer)
+                .tag("resource", "items").tag("status", "200").timer().count());
+    }
+
+    @ParameterizedTest
+    @EnumSource(ServerTransport.Mode.class)
+    public void exchange_Success_StripsHopByHopHeaders(ServerTransport.Mode mode) {
+        ResponseEntity<byte[]> response = transport(mode).exchange(rest, HttpMethod.GET, uri("/items/1"), request(null)).block();
+
+        HttpHeaders headers = response.getHeaders();
+        assertFalse(headers.containsKey(HttpHeaders.CONNECTION));
+        assertFalse(headers.containsKey("Keep-Alive"));
+        assertFalse(headers.containsKey(HttpHeaders.TRANSFER_ENCODING));
+        assertFalse(headers.containsKey(HttpHeaders.CONTENT_LENGTH));
+    }
+
+    @ParameterizedTest
+    @EnumSource(ServerTransport.Mode.class)
+    public void exchange_ClientError_RelaysBodyUnchanged(ServerTransport.Mode mode) {
+        ResponseEntity<byte[]> response = transport(mode).exchange(rest, HttpMethod.GET, uri("/items/404"), request(null)).block();
+
+        assertEquals(404, response.getStatusCodeValue());
+        assertEquals("{\"error\":\"Item not found\"}", body(response));
+        assertEquals("custom", response.getHeaders().getFirst("X-Custom"));
+    }
+
+    @ParameterizedTest
+    @EnumSource(ServerTransport.Mode.class)
+    public void exchange_ServerError_RelaysBodyUnchanged(ServerTransport.Mode mode) {
+        ResponseEntity<byte[]> response = transport(mode).exchange(rest, HttpMethod.GET, uri("/items/500"), request(null)).block();
+
+        assertEquals(500, response.getStatusCodeValue());
+        assertEquals("{\"error\":\"boom\"}", body(response));
+        assertEquals(1, registry.get(ServerTransport.serverRequestsTimer)
+                .tag("resource", "items").tag("status", "500").timer().count());
+    }
+
+    @ParameterizedTest
+    @EnumSource(ServerTransport.Mode.class)
+    public void exchange_RequestWithBody_ForwardsHeadersAndBody(ServerTransport.Mode mode) {
+        String json = "{\"name\":\"user\",\"email\":\"user@mail.ru\"}";
+
+        ResponseEntity<byte[]> response = transport(mode).exchange(rest, HttpMethod.POST, uri("/users"), request(json)).block();
+
+        assertEquals(201, response.getStatusCodeValue());
+        assertEquals(json, body(response));
+        assertEquals("7", response.getHeaders().getFirst("X-Echo-User"));
+    }
+
+    private ServerTransport transport(ServerTransport.Mode mode) {
+        return new ServerTransport(mode, WebClient.builder(), registry);
+    }
+
+    private static HttpEntity<String> request(String body) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("X-Sharer-User-Id", "7");
+        return new HttpEntity<>(body, headers);
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", MediaType.APPLICATION_JSON_VALUE);
+        exchange.getResponseHeaders().add("ETag", "\"v1\"");
+        exchange.getResponseHeaders().add("X-Custom", "custom");
+        exchange.getResponseHeaders().add("Keep-Alive", "timeout=5");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static URI uri(String path) {
+        return URI.create("http://localhost:" + server.getAddress().getPort() + path);
+    }
+
+    private static String body(ResponseEntity<byte[]> response) {
+        return new String(response.getBody(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,31 @@
+package ru.practicum.shareit.config;
+
+import org.junit.jupiter.api.Test;
+import reactor.netty.resources.ConnectionProvider;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class HttpClientConfigTest {
+
+    private final HttpClientConfig config = new HttpClientConfig();
+
+    @Test
+    public void connectionProvider_PerRouteLimitBelowTotal_LimitsPoolToPerRoute() {
+        ConnectionProvider provider = config.shareItServerConnectionProvider(200, 100, 1000, 2000, 30000, 30000);
+        try {
+            assertEquals(100, provider.maxConnections());
+        } finally {
+            provider.dispose();
+        }
+    }
+
+    @Test
+    public void connectionProvider_TotalLimitBelowPerRoute_LimitsPoolToTotal() {
+        ConnectionProvider provider = config.shareItServerConnectionProvider(50, 100, 1000, 2000, 30000, 30000);
+        try {
+            assertEquals(50, provider.maxConnections());
+        } finally {
+            provider.dispose();
+        }
+    }
+}
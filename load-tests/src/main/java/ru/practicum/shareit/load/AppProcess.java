@@ -0,0 +1,80 @@
+package ru.practicum.shareit.load;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+class AppProcess implements AutoCloseable {
+    private final String name;
+    private final Process process;
+    @Getter
+    private final int port;
+
+    private AppProcess(String name, Process process, int port) {
+        this.name = name;
+        this.process = process;
+        this.port = port;
+    }
+
+    static AppProcess start(String name, Path jar, List<String> args, Path logFile) throws IOException {
+        int port = freePort();
+        List<String> command = new ArrayList<>(List.of("java", "-jar", jar.toString(), "--server.port=" + port));
+        command.addAll(args);
+        log.info("Starting {} on port {}, log {}", name, port, logFile);
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start();
+        return new AppProcess(name, process, port);
+    }
+
+    String url() {
+        return "http://localhost:" + port;
+    }
+
+    void awaitReady(HttpClient client, String path, Duration timeout) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url() + path)).GET().build();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(name + " exited with code " + process.exitValue());
+            }
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() < 500) {
+                    log.info("{} is ready", name);
+                    return;
+                }
+            } catch (IOException e) {
+                log.debug("{} is not ready yet: {}", name, e.getMessage());
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException(name + " did not become ready within " + timeout);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package ru.practicum.shareit.load;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+class Fixture {
+    static final List<String> itemNames = List.of("drill", "saw", "ladder", "tent", "bike", "kayak", "projector", "camera");
+
+    private final List<Long> userIds = new ArrayList<>();
+    private final List<Long> itemIds = new ArrayList<>();
+    private final Map<Long, Long> ownerByItem = new HashMap<>();
+    private final LocalDateTime firstSlot = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.SECONDS);
+    private final AtomicLong nextSlot = new AtomicLong();
+
+    void addUser(long userId) {
+        userIds.add(userId);
+    }
+
+    void addItem(long itemId, long ownerId) {
+        itemIds.add(itemId);
+        ownerByItem.put(itemId, ownerId);
+    }
+
+    List<Long> getUserIds() {
+        return List.copyOf(userIds);
+    }
+
+    int userCount() {
+        return userIds.size();
+    }
+
+    int itemCount() {
+        return itemIds.size();
+    }
+
+    long randomUser(Random random) {
+        return userIds.get(random.nextInt(userIds.size()));
+    }
+
+    long randomItem(Random random) {
+        return itemIds.get(random.nextInt(itemIds.size()));
+    }
+
+    long randomBookerOf(long itemId, Random random) {
+        long ownerId = ownerByItem.get(itemId);
+        long bookerId = randomUser(random);
+        while (bookerId == ownerId && userIds.size() > 1) {
+            bookerId = randomUser(random);
+        }
+        return bookerId;
+    }
+
+    // Every booking gets its own hour-long window so concurrent creates never overlap
+    Map<String, Object> nextBooking(long itemId) {
+        LocalDateTime start = firstSlot.plusHours(2 * nextSlot.getAndIncrement());
+        return Map.of(
+                "itemId", itemId,
+                "start", start.toString(),
+                "end", start.plusHours(1).toString()
+        );
+    }
+}
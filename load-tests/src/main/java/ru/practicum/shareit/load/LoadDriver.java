@@ -0,0 +1,82 @@
+package ru.practicum.shareit.load;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+@RequiredArgsConstructor
+class LoadDriver {
+    private static final long highestTrackableMicros = TimeUnit.SECONDS.toMicros(60);
+
+    private final ShareItApi api;
+    private final Fixture fixture;
+    private final int concurrency;
+
+    Result run(Duration duration) throws InterruptedException {
+        Result result = new Result();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        long started = System.nanoTime();
+        long deadline = started + duration.toNanos();
+        for (int worker = 0; worker < concurrency; worker++) {
+            Random random = new Random(worker);
+            executor.execute(() -> {
+                while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+                    execute(Scenario.pick(random), random, result);
+                }
+            });
+        }
+        executor.shutdown();
+        if (!executor.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+        result.elapsed = Duration.ofNanos(System.nanoTime() - started);
+        return result;
+    }
+
+    private void execute(Scenario scenario, Random random, Result result) {
+        long started = System.nanoTime();
+        try {
+            HttpResponse<String> response = scenario.execute(api, fixture, random);
+            if (response.statusCode() >= 400) {
+                result.errors.get(scenario).increment();
+                log.debug("{} failed with {}: {}", scenario, response.statusCode(), response.body());
+                return;
+            }
+        } catch (IOException e) {
+            result.errors.get(scenario).increment();
+            log.debug("{} failed: {}", scenario, e.getMessage());
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - started);
+        result.latencies.get(scenario).recordValue(Math.min(micros, highestTrackableMicros));
+    }
+
+    static class Result {
+        final Map<Scenario, Histogram> latencies = new EnumMap<>(Scenario.class);
+        final Map<Scenario, LongAdder> errors = new EnumMap<>(Scenario.class);
+        Duration elapsed;
+
+        Result() {
+            for (Scenario scenario : Scenario.values()) {
+                latencies.put(scenario, new ConcurrentHistogram(highestTrackableMicros, 3));
+                errors.put(scenario, new LongAdder());
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package ru.practicum.shareit.load;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+public class LoadTest {
+    private static final Duration startupTimeout = Duration.ofMinutes(3);
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        log.info("Running load test with {}", config);
+        Path reportDir = config.getReportDir();
+        Files.createDirectories(reportDir);
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        try (AppProcess server = AppProcess.start("shareit-server", config.getServerJar(), serverArgs(config),
+                reportDir.resolve("server.log"))) {
+            server.awaitReady(client, "/users", startupTimeout);
+            List<String> gatewayArgs = new ArrayList<>(List.of("--shareit-server.url=" + server.url()));
+            gatewayArgs.addAll(config.getGatewayArgs());
+            try (AppProcess gateway = AppProcess.start("shareit-gateway", config.getGatewayJar(), gatewayArgs,
+                    reportDir.resolve("gateway.log"))) {
+                gateway.awaitReady(client, "/users", startupTimeout);
+
+                ShareItApi api = new ShareItApi(client, gateway.url());
+                Fixture fixture = new Seeder(api, config).seed();
+                LoadDriver driver = new LoadDriver(api, fixture, config.getConcurrency());
+
+                log.info("Warming up for {}", config.getWarmup());
+                driver.run(config.getWarmup());
+                log.info("Measuring for {}", config.getDuration());
+                Report report = new Report(driver.run(config.getDuration()), config);
+                report.print(System.out);
+                report.write(reportDir);
+                log.info("Report written to {}", reportDir);
+            }
+        }
+    }
+
+    private static List<String> serverArgs(LoadTestConfig config) {
+        List<String> args = new ArrayList<>();
+        if (config.usesPostgres()) {
+            args.add("--spring.datasource.driverClassName=org.postgresql.Driver");
+            args.add("--spring.datasource.url=" + config.getDbUrl());
+            args.add("--spring.datasource.username=" + config.getDbUser());
+            args.add("--spring.datasource.password=" + config.getDbPassword());
+        } else {
+            args.add("--spring.profiles.active=test");
+        }
+        args.addAll(config.getServerArgs());
+        return args;
+    }
+}
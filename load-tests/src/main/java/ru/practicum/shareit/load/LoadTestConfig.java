@@ -0,0 +1,70 @@
+package ru.practicum.shareit.load;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Getter
+@ToString
+@RequiredArgsConstructor
+class LoadTestConfig {
+    private final Path serverJar;
+    private final Path gatewayJar;
+    private final List<String> serverArgs;
+    private final List<String> gatewayArgs;
+    private final String dbUrl;
+    private final String dbUser;
+    private final String dbPassword;
+    private final int users;
+    private final int itemsPerUser;
+    private final int requestsPerUser;
+    private final int bookingsPerUser;
+    private final int concurrency;
+    private final Duration warmup;
+    private final Duration duration;
+    private final Path reportDir;
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                Path.of(required("load.server-jar")),
+                Path.of(required("load.gateway-jar")),
+                args("load.server-args"),
+                args("load.gateway-args"),
+                System.getProperty("load.db-url", ""),
+                System.getProperty("load.db-user", "root"),
+                System.getProperty("load.db-password", "root"),
+                Integer.getInteger("load.users", 200),
+                Integer.getInteger("load.items-per-user", 5),
+                Integer.getInteger("load.requests-per-user", 1),
+                Integer.getInteger("load.bookings-per-user", 5),
+                Integer.getInteger("load.concurrency", 50),
+                Duration.ofSeconds(Long.getLong("load.warmup-seconds", 15L)),
+                Duration.ofSeconds(Long.getLong("load.duration-seconds", 60L)),
+                Path.of(System.getProperty("load.report-dir", "target/load-test"))
+        );
+    }
+
+    boolean usesPostgres() {
+        return !dbUrl.isBlank();
+    }
+
+    private static String required(String name) {
+        String value = System.getProperty(name);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("System property " + name + " is required");
+        }
+        return value;
+    }
+
+    private static List<String> args(String name) {
+        return Arrays.stream(System.getProperty(name, "").split("\\s+"))
+                .filter(arg -> !arg.isBlank())
+                .collect(Collectors.toList());
+    }
+}
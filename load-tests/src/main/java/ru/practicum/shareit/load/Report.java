@@ -0,0 +1,75 @@
+package ru.practicum.shareit.load;
+
+import lombok.RequiredArgsConstructor;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+@RequiredArgsConstructor
+class Report {
+    private static final double microsPerMilli = 1000.0;
+    private static final String header = "scenario,requests,errors,throughput_rps,p50_ms,p90_ms,p99_ms,max_ms";
+
+    private final LoadDriver.Result result;
+    private final LoadTestConfig config;
+
+    void print(PrintStream out) {
+        out.println();
+        out.printf(Locale.ROOT, "%d concurrent clients, %d s%n", config.getConcurrency(), result.elapsed.toSeconds());
+        out.printf(Locale.ROOT, "%-16s %10s %8s %12s %9s %9s %9s %9s%n",
+                "scenario", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        for (Scenario scenario : Scenario.values()) {
+            Histogram histogram = result.latencies.get(scenario);
+            out.printf(Locale.ROOT, "%-16s %10d %8d %12.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    scenario, histogram.getTotalCount(), result.errors.get(scenario).sum(), throughput(histogram),
+                    percentile(histogram, 50), percentile(histogram, 90), percentile(histogram, 99),
+                    histogram.getMaxValue() / microsPerMilli);
+        }
+        out.printf(Locale.ROOT, "%-16s %10d %8d %12.1f%n", "TOTAL", totalCount(), totalErrors(),
+                totalCount() / seconds());
+    }
+
+    void write(Path dir) throws IOException {
+        Files.createDirectories(dir);
+        try (PrintStream csv = new PrintStream(Files.newOutputStream(dir.resolve("summary.csv")))) {
+            csv.println(header);
+            for (Scenario scenario : Scenario.values()) {
+                Histogram histogram = result.latencies.get(scenario);
+                csv.printf(Locale.ROOT, "%s,%d,%d,%.1f,%.2f,%.2f,%.2f,%.2f%n",
+                        scenario, histogram.getTotalCount(), result.errors.get(scenario).sum(), throughput(histogram),
+                        percentile(histogram, 50), percentile(histogram, 90), percentile(histogram, 99),
+                        histogram.getMaxValue() / microsPerMilli);
+            }
+        }
+        for (Scenario scenario : Scenario.values()) {
+            Path file = dir.resolve(scenario.name().toLowerCase(Locale.ROOT) + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                result.latencies.get(scenario).outputPercentileDistribution(out, microsPerMilli);
+            }
+        }
+    }
+
+    private double throughput(Histogram histogram) {
+        return histogram.getTotalCount() / seconds();
+    }
+
+    private static double percentile(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / microsPerMilli;
+    }
+
+    private long totalCount() {
+        return result.latencies.values().stream().mapToLong(Histogram::getTotalCount).sum();
+    }
+
+    private long totalErrors() {
+        return result.errors.values().stream().mapToLong(errors -> errors.sum()).sum();
+    }
+
+    private double seconds() {
+        return result.elapsed.toMillis() / 1000.0;
+    }
+}
@@ -0,0 +1,74 @@
+package ru.practicum.shareit.load;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.Random;
+
+enum Scenario {
+    OWNER_ITEMS(25) {
+        @Override
+        HttpResponse<String> execute(ShareItApi api, Fixture fixture, Random random) throws IOException, InterruptedException {
+            return api.get("/items?from=0&size=20", fixture.randomUser(random));
+        }
+    },
+    ITEM(20) {
+        @Override
+        HttpResponse<String> execute(ShareItApi api, Fixture fixture, Random random) throws IOException, InterruptedException {
+            return api.get("/items/" + fixture.randomItem(random), fixture.randomUser(random));
+        }
+    },
+    SEARCH(10) {
+        @Override
+        HttpResponse<String> execute(ShareItApi api, Fixture fixture, Random random) throws IOException, InterruptedException {
+            String text = Fixture.itemNames.get(random.nextInt(Fixture.itemNames.size()));
+            return api.get("/items/search?text=" + text + "&from=0&size=20", fixture.randomUser(random));
+        }
+    },
+    BOOKER_BOOKINGS(15) {
+        @Override
+        HttpResponse<String> execute(ShareItApi api, Fixture fixture, Random random) throws IOException, InterruptedException {
+            return api.get("/bookings?state=ALL&from=0&size=20", fixture.randomUser(random));
+        }
+    },
+    OWNER_BOOKINGS(10) {
+        @Override
+        HttpResponse<String> execute(ShareItApi api, Fixture fixture, Random random) throws IOException, InterruptedException {
+            return api.get("/bookings/owner?state=FUTURE&from=0&size=20", fixture.randomUser(random));
+        }
+    },
+    CREATE_BOOKING(15) {
+        @Override
+        HttpResponse<String> execute(ShareItApi api, Fixture fixture, Random random) throws IOException, InterruptedException {
+            long itemId = fixture.randomItem(random);
+            return api.post("/bookings", fixture.randomBookerOf(itemId, random), fixture.nextBooking(itemId));
+        }
+    },
+    USER_REQUESTS(5) {
+        @Override
+        HttpResponse<String> execute(ShareItApi api, Fixture fixture, Random random) throws IOException, InterruptedException {
+            return api.get("/requests", fixture.randomUser(random));
+        }
+    };
+
+    private static final int totalWeight = Arrays.stream(values()).mapToInt(scenario -> scenario.weight).sum();
+
+    private final int weight;
+
+    Scenario(int weight) {
+        this.weight = weight;
+    }
+
+    abstract HttpResponse<String> execute(ShareItApi api, Fixture fixture, Random random) throws IOException, InterruptedException;
+
+    static Scenario pick(Random random) {
+        int roll = random.nextInt(totalWeight);
+        for (Scenario scenario : values()) {
+            roll -= scenario.weight;
+            if (roll < 0) {
+                return scenario;
+            }
+        }
+        throw new IllegalStateException("Scenario weights are inconsistent");
+    }
+}
@@ -0,0 +1,52 @@
+package ru.practicum.shareit.load;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Random;
+
+@Slf4j
+@RequiredArgsConstructor
+class Seeder {
+    private final ShareItApi api;
+    private final LoadTestConfig config;
+
+    Fixture seed() throws IOException, InterruptedException {
+        Fixture fixture = new Fixture();
+        Random random = new Random(42);
+        long started = System.nanoTime();
+
+        for (int i = 1; i <= config.getUsers(); i++) {
+            fixture.addUser(api.createAndGetId("/users", null, Map.of("name", "user" + i, "email", "user" + i + "@mail.ru")));
+        }
+        for (long ownerId : fixture.getUserIds()) {
+            for (int r = 0; r < config.getRequestsPerUser(); r++) {
+                api.createAndGetId("/requests", ownerId, Map.of("description", "need a " + itemName(random)));
+            }
+        }
+        for (long ownerId : fixture.getUserIds()) {
+            for (int n = 0; n < config.getItemsPerUser(); n++) {
+                String name = itemName(random);
+                long itemId = api.createAndGetId("/items", ownerId, Map.of(
+                        "name", name + " " + n,
+                        "description", "a " + name + " to share",
+                        "available", true));
+                fixture.addItem(itemId, ownerId);
+            }
+        }
+        int bookings = config.getUsers() * config.getBookingsPerUser();
+        for (int i = 0; i < bookings; i++) {
+            long itemId = fixture.randomItem(random);
+            api.createAndGetId("/bookings", fixture.randomBookerOf(itemId, random), fixture.nextBooking(itemId));
+        }
+        log.info("Seeded {} users, {} items, {} bookings in {} ms", fixture.userCount(), fixture.itemCount(), bookings,
+                (System.nanoTime() - started) / 1_000_000);
+        return fixture;
+    }
+
+    private static String itemName(Random random) {
+        return Fixture.itemNames.get(random.nextInt(Fixture.itemNames.size()));
+    }
+}
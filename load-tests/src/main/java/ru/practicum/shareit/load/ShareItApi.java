@@ -0,0 +1,59 @@
+package ru.practicum.shareit.load;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+@RequiredArgsConstructor
+class ShareItApi {
+    private static final String xSharerUserId = "X-Sharer-User-Id";
+    private static final Duration requestTimeout = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    HttpResponse<String> get(String path, long userId) throws IOException, InterruptedException {
+        return client.send(request(path, userId).GET().build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    HttpResponse<String> post(String path, Long userId, Object body) throws IOException, InterruptedException {
+        HttpRequest.BodyPublisher publisher = HttpRequest.BodyPublishers.ofString(toJson(body));
+        return client.send(request(path, userId).POST(publisher).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    long createAndGetId(String path, Long userId, Object body) throws IOException, InterruptedException {
+        HttpResponse<String> response = post(path, userId, body);
+        if (response.statusCode() != 200 && response.statusCode() != 201) {
+            throw new IllegalStateException("POST " + path + " failed with " + response.statusCode() + ": " + response.body());
+        }
+        return mapper.readTree(response.body()).get("id").asLong();
+    }
+
+    private HttpRequest.Builder request(String path, Long userId) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(requestTimeout)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json");
+        if (userId != null) {
+            builder.header(xSharerUserId, String.valueOf(userId));
+        }
+        return builder;
+    }
+
+    private String toJson(Object body) {
+        try {
+            return mapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,4 @@
+#!/bin/sh
+set -e
+# Let the replica container stream WAL from this server
+echo "host replication all all scram-sha-256" >> "$PGDATA/pg_hba.conf"
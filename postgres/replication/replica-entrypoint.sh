@@ -0,0 +1,12 @@
+#!/bin/sh
+set -e
+# Clone the primary on first start and keep following it as a hot standby
+if [ ! -s "$PGDATA/PG_VERSION" ]; then
+  until pg_basebackup -h shareit-db -U "$POSTGRES_USER" -D "$PGDATA" -R -X stream; do
+    echo "Waiting for shareit-db to accept replication connections"
+    rm -rf "${PGDATA:?}"/*
+    sleep 2
+  done
+  chmod 0700 "$PGDATA"
+fi
+exec postgres
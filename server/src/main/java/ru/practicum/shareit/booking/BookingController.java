@@ -1,16 +1,19 @@
 package ru.practicum.shareit.booking;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.booking.dto.BookingApproveResponse;
 import ru.practicum.shareit.booking.dto.BookingCreateRequest;
 import ru.practicum.shareit.booking.dto.BookingCreateResponse;
 import ru.practicum.shareit.booking.dto.BookingGetResponse;
 import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.utility.Cursor;
 
 import java.util.List;
 
 import static ru.practicum.shareit.utility.ControllerConstants.xSharerUserId;
+import static ru.practicum.shareit.utility.PaginationUtil.withNextCursor;
 
 @RestController
 @RequestMapping(path = "/bookings")
@@ -36,18 +39,22 @@ public class BookingController {
     }
 
     @GetMapping
-    public List<BookingGetResponse> getUserBookings(@RequestParam(required = false, defaultValue = "ALL") String state,
-                                                    @RequestHeader(xSharerUserId) Long userId,
-                                                    @RequestParam(required = false, name = "from") Long from,
-                                                    @RequestParam(required = false, name = "size") Long size) {
-        return bookingService.getUserBookings(userId, state, from, size);
+    public ResponseEntity<List<BookingGetResponse>> getUserBookings(@RequestParam(required = false, defaultValue = "ALL") String state,
+                                                                    @RequestHeader(xSharerUserId) Long userId,
+                                                                    @RequestParam(required = false, name = "from") Long from,
+                                                                    @RequestParam(required = false, name = "size") Long size,
+                                                                    @RequestParam(required = false, name = "cursor") String cursor) {
+        return withNextCursor(bookingService.getUserBookings(userId, state, from, size, cursor), size,
+                booking -> new Cursor(booking.getStart(), booking.getId()));
     }
 
     @GetMapping("/owner")
-    public List<BookingGetResponse> getOwnerBookings(@RequestParam(required = false, defaultValue = "ALL") String state,
-                                                     @RequestHeader(xSharerUserId) Long userId,
-                                                     @RequestParam(required = false, name = "from") Long from,
-                                                     @RequestParam(required = false, name = "size") Long size) {
-        return bookingService.getOwnerBookings(userId, state, from, size);
+    public ResponseEntity<List<BookingGetResponse>> getOwnerBookings(@RequestParam(required = false, defaultValue = "ALL") String state,
+                                                                     @RequestHeader(xSharerUserId) Long userId,
+                                                                     @RequestParam(required = false, name = "from") Long from,
+                                                                     @RequestParam(required = false, name = "size") Long size,
+                                                                     @RequestParam(required = false, name = "cursor") String cursor) {
+        return withNextCursor(bookingService.getOwnerBookings(userId, state, from, size, cursor), size,
+                booking -> new Cursor(booking.getStart(), booking.getId()));
     }
 }
@@ -0,0 +1,38 @@
+package ru.practicum.shareit.booking.dao;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import ru.practicum.shareit.booking.model.State;
+import ru.practicum.shareit.utility.Cursor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@RequiredArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class BookingQuery {
+    private final Role role;
+    private final Long userId;
+    private final State state;
+    private final LocalDateTime now;
+    private final Cursor cursor;
+
+    public static BookingQuery forBooker(Long userId, State state, LocalDateTime now) {
+        return new BookingQuery(Role.BOOKER, userId, state, now, null);
+    }
+
+    public static BookingQuery forOwner(Long userId, State state, LocalDateTime now) {
+        return new BookingQuery(Role.OWNER, userId, state, now, null);
+    }
+
+    public BookingQuery after(Cursor cursor) {
+        return new BookingQuery(role, userId, state, now, cursor);
+    }
+
+    public enum Role {
+        BOOKER, OWNER
+    }
+}
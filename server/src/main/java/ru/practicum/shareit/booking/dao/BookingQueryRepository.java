@@ -0,0 +1,10 @@
+package ru.practicum.shareit.booking.dao;
+
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.booking.dto.BookingView;
+
+import java.util.List;
+
+public interface BookingQueryRepository {
+    List<BookingView> findBookingViews(BookingQuery query, Pageable pageable);
+}
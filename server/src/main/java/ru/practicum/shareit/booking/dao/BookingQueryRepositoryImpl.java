@@ -0,0 +1,109 @@
+package ru.practicum.shareit.booking.dao;
+
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.booking.dto.BookingView;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.itemRequest.model.ItemRequest;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.utility.Cursor;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.JoinType;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class BookingQueryRepositoryImpl implements BookingQueryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<BookingView> findBookingViews(BookingQuery query, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<BookingView> cq = cb.createQuery(BookingView.class);
+        Root<Booking> booking = cq.from(Booking.class);
+
+        Join<Booking, Item> item = booking.join("item");
+        Join<Item, User> owner = item.join("owner");
+        Join<Item, ItemRequest> request = item.join("request", JoinType.LEFT);
+        Join<Booking, User> booker = booking.join("booker");
+
+        cq.select(cb.construct(BookingView.class,
+                booking.get("id"), booking.get("start"), booking.get("end"), booking.get("status"),
+                item.get("id"), item.get("name"), item.get("description"), item.get("available"),
+                owner.get("id"), owner.get("name"), owner.get("email"),
+                request.get("id"), request.get("description"), request.get("created"),
+                booker.get("id"), booker.get("name"), booker.get("email")));
+        return getResultList(query, cb, cq, booking, owner, booker, pageable);
+    }
+
+    private <T> List<T> getResultList(BookingQuery query, CriteriaBuilder cb, CriteriaQuery<T> cq,
+                                      Root<Booking> booking, Join<Item, User> owner, Join<Booking, User> booker,
+                                      Pageable pageable) {
+        List<Predicate> predicates = new ArrayList<>();
+        Path<Long> userId = query.getRole() == BookingQuery.Role.OWNER ? owner.get("id") : booker.get("id");
+        predicates.add(cb.equal(userId, query.getUserId()));
+        addStatePredicates(query, cb, booking, predicates);
+        addCursorPredicate(query.getCursor(), cb, booking, predicates);
+
+        cq.where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.desc(booking.get("start")), cb.desc(booking.get("id")));
+
+        TypedQuery<T> typedQuery = entityManager.createQuery(cq);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        return typedQuery.getResultList();
+    }
+
+    private void addStatePredicates(BookingQuery query, CriteriaBuilder cb, Root<Booking> booking,
+                                    List<Predicate> predicates) {
+        Path<LocalDateTime> start = booking.get("start");
+        Path<LocalDateTime> end = booking.get("end");
+        LocalDateTime now = query.getNow();
+        switch (query.getState()) {
+            case PAST:
+                predicates.add(cb.lessThan(end, now));
+                break;
+            case CURRENT:
+                predicates.add(cb.lessThan(start, now));
+                predicates.add(cb.greaterThan(end, now));
+                break;
+            case FUTURE:
+                predicates.add(cb.greaterThan(start, now));
+                break;
+            case WAITING:
+                predicates.add(cb.equal(booking.get("status"), Status.WAITING));
+                break;
+            case REJECTED:
+                predicates.add(cb.equal(booking.get("status"), Status.REJECTED));
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void addCursorPredicate(Cursor cursor, CriteriaBuilder cb, Root<Booking> booking,
+                                    List<Predicate> predicates) {
+        if (cursor == null) {
+            return;
+        }
+        Path<LocalDateTime> start = booking.get("start");
+        Path<Long> id = booking.get("id");
+        predicates.add(cb.or(
+                cb.lessThan(start, cursor.getTime()),
+                cb.and(cb.equal(start, cursor.getTime()), cb.lessThan(id, cursor.getId()))));
+    }
+}
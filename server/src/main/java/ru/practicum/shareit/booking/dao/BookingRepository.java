@@ -1,37 +1,52 @@
 package ru.practicum.shareit.booking.dao;
 
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ru.practicum.shareit.booking.dto.BookingIntervalView;
+import ru.practicum.shareit.booking.dto.BookingView;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.Status;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-
-public interface BookingRepository extends JpaRepository<Booking, Long> {
-    List<Booking> findByBooker_IdAndEndBeforeOrderByStartDesc(Long bookerId, LocalDateTime end, Pageable pageable);
-
-    List<Booking> findByBooker_IdOrderByStartDesc(Long bookerId, Pageable pageable);
-
-    List<Booking> findByBooker_IdAndStatusOrderByStartDesc(Long bookerId, Status status, Pageable pageable);
-
-    List<Booking> findByBooker_IdAndEndIsAfterAndStartBeforeOrderByStartDesc(Long bookerId, LocalDateTime endAfter, LocalDateTime startBefore, Pageable pageable);
-
-    List<Booking> findByItem_Owner_IdOrderByStartDesc(Long userId, Pageable pageable);
-
-    List<Booking> findByItem_Owner_IdAndEndIsBeforeOrderByStartDesc(Long userId, LocalDateTime localDateTime, Pageable pageable);
-
-    List<Booking> findByItem_Owner_IdAndEndAfterAndStartBeforeOrderByStartDesc(Long userId, LocalDateTime localDateTime, LocalDateTime localDateTime1, Pageable pageable);
-
-    List<Booking> findByItem_Owner_IdAndStatus(Long userId, Status status, Pageable pageable);
-
-    List<Booking> findByBooker_IdAndStartAfterOrderByStartDesc(Long userId, LocalDateTime localDateTime, Pageable pageable);
-
-    List<Booking> findByItem_Owner_IdAndStartAfterOrderByStartDesc(Long userId, LocalDateTime localDateTime, Pageable pageable);
-
-    Booking findFirstByItemIdAndStartBeforeOrderByStartDesc(Long itemId, LocalDateTime time);
-
-    Booking findFirstByItemIdAndStartAfterOrderByStartAsc(Long itemId, LocalDateTime time);
+import java.util.Optional;
+
+public interface BookingRepository extends JpaRepository<Booking, Long>, BookingQueryRepository {
+    String lastNextBookingView = "select new ru.practicum.shareit.booking.dto.BookingView(" +
+            "b.id, b.start, b.end, b.status, i.id, i.name, i.description, i.available, " +
+            "o.id, o.name, o.email, r.id, r.description, r.created, u.id, u.name, u.email) " +
+            "from Booking b join b.item i join i.owner o left join i.request r join b.booker u ";
+
+    @Override
+    @EntityGraph(Booking.withItemAndBooker)
+    Optional<Booking> findById(Long id);
+
+    @Query(lastNextBookingView + "where i.id in :itemIds and b.start = " +
+            "(select max(b2.start) from Booking b2 where b2.item.id = i.id and b2.start < :time)")
+    List<BookingView> findLastBookingsByItemIds(@Param("itemIds") Collection<Long> itemIds, @Param("time") LocalDateTime time);
+
+    @Query(lastNextBookingView + "where i.id in :itemIds and b.start = " +
+            "(select min(b2.start) from Booking b2 where b2.item.id = i.id and b2.start > :time)")
+    List<BookingView> findNextBookingsByItemIds(@Param("itemIds") Collection<Long> itemIds, @Param("time") LocalDateTime time);
+
+    @Query("select count(b) > 0 from Booking b where b.item.id = :itemId and b.status in :statuses " +
+            "and b.start < :end and b.end > :start")
+    boolean existsOverlapping(@Param("itemId") Long itemId, @Param("start") LocalDateTime start,
+                              @Param("end") LocalDateTime end, @Param("statuses") Collection<Status> statuses);
+
+    @Query("select b.start as start, b.end as end from Booking b " +
+            "where b.item.id = :itemId and b.status in :statuses order by b.start")
+    List<BookingIntervalView> findIntervalsByItemId(@Param("itemId") Long itemId,
+                                                    @Param("statuses") Collection<Status> statuses);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Booking b set b.status = :status, b.version = b.version + 1 " +
+            "where b.id = :id and b.version = :version")
+    int updateStatus(@Param("id") Long id, @Param("version") Long version, @Param("status") Status status);
 
     Boolean existsBookingByItemId(Long itemId);
 
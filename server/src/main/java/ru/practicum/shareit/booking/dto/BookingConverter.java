@@ -5,6 +5,9 @@ import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.itemRequest.model.ItemRequest;
+import ru.practicum.shareit.user.model.User;
 
 import java.util.List;
 
@@ -21,6 +24,10 @@ public interface BookingConverter {
         response.setBookerId(booking.getBooker() != null ? booking.getBooker().getId() : null);
     }
 
+    @Mapping(target = "item", source = "view")
+    @Mapping(target = "booker", source = "view")
+    BookingResponse bookingViewConvertToBookingResponse(BookingView view);
+
     BookingCreateResponse bookingConvertToBookingCreateResponse(Booking booking);
 
     BookingApproveResponse bookingConvertToBookingApproveResponse(Booking booking);
@@ -29,4 +36,40 @@ public interface BookingConverter {
 
     List<BookingGetResponse> bookingConvertToBookingGetResponse(List<Booking> booking);
 
+    @Mapping(target = "item", source = "view")
+    @Mapping(target = "booker", source = "view")
+    BookingGetResponse bookingViewConvertToBookingGetResponse(BookingView view);
+
+    List<BookingGetResponse> bookingViewConvertToBookingGetResponse(List<BookingView> views);
+
+    default Item bookingViewToItem(BookingView view) {
+        User owner = new User();
+        owner.setId(view.getOwnerId());
+        owner.setName(view.getOwnerName());
+        owner.setEmail(view.getOwnerEmail());
+
+        Item item = new Item();
+        item.setId(view.getItemId());
+        item.setName(view.getItemName());
+        item.setDescription(view.getItemDescription());
+        item.setAvailable(view.getItemAvailable());
+        item.setOwner(owner);
+        if (view.getRequestId() != null) {
+            ItemRequest request = new ItemRequest();
+            request.setId(view.getRequestId());
+            request.setDescription(view.getRequestDescription());
+            request.setCreated(view.getRequestCreated());
+            item.setRequest(request);
+        }
+        return item;
+    }
+
+    default User bookingViewToBooker(BookingView view) {
+        User booker = new User();
+        booker.setId(view.getBookerId());
+        booker.setName(view.getBookerName());
+        booker.setEmail(view.getBookerEmail());
+        return booker;
+    }
+
 }
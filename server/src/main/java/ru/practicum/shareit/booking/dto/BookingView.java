@@ -0,0 +1,27 @@
+package ru.practicum.shareit.booking.dto;
+
+import lombok.Value;
+import ru.practicum.shareit.booking.model.Status;
+
+import java.time.LocalDateTime;
+
+@Value
+public class BookingView {
+    Long id;
+    LocalDateTime start;
+    LocalDateTime end;
+    Status status;
+    Long itemId;
+    String itemName;
+    String itemDescription;
+    Boolean itemAvailable;
+    Long ownerId;
+    String ownerName;
+    String ownerEmail;
+    Long requestId;
+    String requestDescription;
+    LocalDateTime requestCreated;
+    Long bookerId;
+    String bookerName;
+    String bookerEmail;
+}
@@ -17,5 +17,9 @@ public interface BookingService {
 
     List<BookingGetResponse> getOwnerBookings(Long userId, String state, Long from, Long size);
 
+    List<BookingGetResponse> getOwnerBookings(Long userId, String state, Long from, Long size, String cursor);
+
     List<BookingGetResponse> getUserBookings(Long userId, String state, Long from, Long size);
+
+    List<BookingGetResponse> getUserBookings(Long userId, String state, Long from, Long size, String cursor);
 }
@@ -1,81 +1,105 @@
 package ru.practicum.shareit.booking.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.dao.BookingQuery;
 import ru.practicum.shareit.booking.dao.BookingRepository;
 import ru.practicum.shareit.booking.dto.*;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.State;
 import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.config.MetricsConfig;
+import ru.practicum.shareit.handler.BookingConflictException;
 import ru.practicum.shareit.handler.InternalServerException;
 import ru.practicum.shareit.handler.NotFoundException;
 import ru.practicum.shareit.handler.ValidationException;
+import ru.practicum.shareit.item.availability.ItemAvailabilityCalendar;
 import ru.practicum.shareit.item.dao.ItemRepository;
 import ru.practicum.shareit.item.model.Item;
-import ru.practicum.shareit.user.dao.UserRepository;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.service.UserService;
+import ru.practicum.shareit.utility.Cursor;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Set;
 
+import static ru.practicum.shareit.utility.PaginationUtil.getCursorPageable;
 import static ru.practicum.shareit.utility.PaginationUtil.getPageable;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 @Slf4j
+@Timed(MetricsConfig.serviceTimer)
 public class BookingServiceImpl implements BookingService {
+    private static final Set<Status> activeStatuses = EnumSet.of(Status.WAITING, Status.APPROVED);
+    private static final String exclusionViolationState = "23P01";
 
     private final BookingRepository bookingRepository;
     private final ItemRepository itemRepository;
-    private final UserRepository userRepository;
 
     private final BookingConverter converter;
 
+    private final ItemAvailabilityCalendar availabilityCalendar;
+
     private final UserService userService;
 
     @Override
     public BookingCreateResponse create(BookingCreateRequest request, Long itemId, Long userId) {
         log.info("Creating booking. Request: {}, Item ID: {}, User ID: {}", request, itemId, userId);
-        userService.checkUserDoesntExistAndThrowIfNotFound(userId);
+        User user = userService.getExistingUser(userId);
         Booking booking = converter.bookingCreateRequestConvertToBooking(request);
         checkTime(booking);
 
-        Item item = getItem(itemId);
+        Item item = getItemForUpdate(itemId);
         checkItemAvailable(item);
-        User user = getUser(userId);
 
         booking.setBooker(user);
         booking.setItem(item);
         booking.setStatus(Status.WAITING);
 
         checkOwnerNotBookingUser(booking, userId);
-        return converter.bookingConvertToBookingCreateResponse(bookingRepository.save(booking));
+        checkNoOverlappingBookings(booking);
+        availabilityCalendar.invalidate(itemId);
+        try {
+            return converter.bookingConvertToBookingCreateResponse(bookingRepository.saveAndFlush(booking));
+        } catch (DataIntegrityViolationException e) {
+            if (violatesOverlapConstraint(e)) {
+                throw new BookingConflictException("Item is already booked for the requested time");
+            }
+            throw e;
+        }
     }
 
     @Override
     public BookingApproveResponse approve(Long bookingId, Long userId, Boolean isApproved) {
         log.info("Approving booking. Booking ID: {}, User ID: {}, Approval: {}", bookingId, userId, isApproved);
-        userService.checkUserDoesntExistAndThrowIfNotFound(userId);
         Booking booking = getBooking(bookingId);
         checkItsOwner(booking, userId);
-        if (isApproved) {
-            if (booking.getStatus().equals(Status.APPROVED)) {
-                throw new ValidationException("Status cannot be changed after approval");
-            }
-            booking.setStatus(Status.APPROVED);
-        } else {
-            booking.setStatus(Status.REJECTED);
+        if (!booking.getStatus().equals(Status.WAITING)) {
+            throw new ValidationException("Status cannot be changed once the booking is "
+                    + booking.getStatus().name().toLowerCase());
         }
-        return converter.bookingConvertToBookingApproveResponse(bookingRepository.save(booking));
+        Status status = isApproved ? Status.APPROVED : Status.REJECTED;
+        if (bookingRepository.updateStatus(bookingId, booking.getVersion(), status) == 0) {
+            throw new BookingConflictException("Booking " + bookingId + " was changed concurrently, reload it and retry");
+        }
+        booking.setStatus(status);
+        availabilityCalendar.invalidate(booking.getItem().getId());
+        return converter.bookingConvertToBookingApproveResponse(booking);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public BookingGetResponse get(Long bookingId, Long userId) {
         log.info("Fetching booking. Booking ID: {}, User ID: {}", bookingId, userId);
         userService.checkUserDoesntExistAndThrowIfNotFound(userId);
@@ -85,65 +109,42 @@ public class BookingServiceImpl implements BookingService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<BookingGetResponse> getOwnerBookings(Long userId, String stateStr, Long from, Long size) {
-        Pageable pageable = getPageable(from, size);
+        return getOwnerBookings(userId, stateStr, from, size, null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BookingGetResponse> getOwnerBookings(Long userId, String stateStr, Long from, Long size, String cursorStr) {
+        Pageable pageable = cursorStr == null ? getPageable(from, size) : getCursorPageable(size);
         State state = strToState(stateStr);
-        log.info("Fetching owner bookings. User ID: {}, State: {}", userId, state);
+        log.info("Fetching owner bookings. User ID: {}, State: {}, Cursor: {}", userId, state, cursorStr);
         userService.checkUserDoesntExistAndThrowIfNotFound(userId);
-        switch (state) {
-            case ALL:
-                return converter.bookingConvertToBookingGetResponse(bookingRepository
-                        .findByItem_Owner_IdOrderByStartDesc(userId, pageable));
-            case PAST:
-                return converter.bookingConvertToBookingGetResponse(bookingRepository
-                        .findByItem_Owner_IdAndEndIsBeforeOrderByStartDesc(userId, LocalDateTime.now(), pageable));
-            case CURRENT:
-                return converter.bookingConvertToBookingGetResponse(bookingRepository
-                        .findByItem_Owner_IdAndEndAfterAndStartBeforeOrderByStartDesc(userId,
-                                LocalDateTime.now(), LocalDateTime.now(), pageable));
-            case WAITING:
-                return converter.bookingConvertToBookingGetResponse(bookingRepository
-                        .findByItem_Owner_IdAndStatus(userId, Status.WAITING, pageable));
-            case REJECTED:
-                return converter.bookingConvertToBookingGetResponse(bookingRepository
-                        .findByItem_Owner_IdAndStatus(userId, Status.REJECTED, pageable));
-            case FUTURE:
-                return converter.bookingConvertToBookingGetResponse(bookingRepository
-                        .findByItem_Owner_IdAndStartAfterOrderByStartDesc(userId, LocalDateTime.now(), pageable));
-            default:
-                return null;
-        }
+        return findBookings(BookingQuery.forOwner(userId, state, LocalDateTime.now()), cursorStr, pageable);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<BookingGetResponse> getUserBookings(Long userId, String stateStr, Long from, Long size) {
-        Pageable pageable = getPageable(from, size);
+        return getUserBookings(userId, stateStr, from, size, null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BookingGetResponse> getUserBookings(Long userId, String stateStr, Long from, Long size, String cursorStr) {
+        Pageable pageable = cursorStr == null ? getPageable(from, size) : getCursorPageable(size);
         State state = strToState(stateStr);
-        log.info("Fetching user bookings. User ID: {}, State: {}", userId, state);
+        log.info("Fetching user bookings. User ID: {}, State: {}, Cursor: {}", userId, state, cursorStr);
         userService.checkUserDoesntExistAndThrowIfNotFound(userId);
-        switch (state) {
-            case ALL:
-                return converter.bookingConvertToBookingGetResponse(bookingRepository
-                        .findByBooker_IdOrderByStartDesc(userId, pageable));
-            case PAST:
-                return converter.bookingConvertToBookingGetResponse(bookingRepository
-                        .findByBooker_IdAndEndBeforeOrderByStartDesc(userId, LocalDateTime.now(), pageable));
-            case WAITING:
-                return converter.bookingConvertToBookingGetResponse(bookingRepository
-                        .findByBooker_IdAndStatusOrderByStartDesc(userId, Status.WAITING, pageable));
-            case REJECTED:
-                return converter.bookingConvertToBookingGetResponse(bookingRepository
-                        .findByBooker_IdAndStatusOrderByStartDesc(userId, Status.REJECTED, pageable));
-            case CURRENT:
-                return converter.bookingConvertToBookingGetResponse(bookingRepository
-                        .findByBooker_IdAndEndIsAfterAndStartBeforeOrderByStartDesc(userId,
-                                LocalDateTime.now(), LocalDateTime.now(), pageable));
-            case FUTURE:
-                return converter.bookingConvertToBookingGetResponse(bookingRepository
-                        .findByBooker_IdAndStartAfterOrderByStartDesc(userId, LocalDateTime.now(), pageable));
-            default:
-                return null;
+        return findBookings(BookingQuery.forBooker(userId, state, LocalDateTime.now()), cursorStr, pageable);
+    }
+
+    private List<BookingGetResponse> findBookings(BookingQuery query, String cursorStr, Pageable pageable) {
+        if (cursorStr != null) {
+            query = query.after(Cursor.decodeWithTime(cursorStr));
         }
+        return converter.bookingViewConvertToBookingGetResponse(bookingRepository.findBookingViews(query, pageable));
     }
 
     private void checkItemAvailable(Item item) {
@@ -154,10 +155,28 @@ public class BookingServiceImpl implements BookingService {
 
     private void checkItsOwner(Booking booking, Long ownerId) {
         if (!booking.getItem().getOwner().getId().equals(ownerId)) {
+            userService.checkUserDoesntExistAndThrowIfNotFound(ownerId);
             throw new NotFoundException("This item does not belong to this user");
         }
     }
 
+    private void checkNoOverlappingBookings(Booking booking) {
+        if (bookingRepository.existsOverlapping(booking.getItem().getId(), booking.getStart(), booking.getEnd(),
+                activeStatuses)) {
+            throw new BookingConflictException("Item is already booked for the requested time");
+        }
+    }
+
+    // bookings_item_no_overlap only exists on Postgres, other integrity violations are not conflicts
+    private boolean violatesOverlapConstraint(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException && exclusionViolationState.equals(((SQLException) cause).getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private void checkTime(Booking booking) {
         if (booking.getStart().isBefore(LocalDateTime.now()) || booking.getEnd().isBefore(LocalDateTime.now())
                 || booking.getEnd().isBefore(booking.getStart()) || booking.getStart().isEqual(booking.getEnd())) {
@@ -177,12 +196,8 @@ public class BookingServiceImpl implements BookingService {
         return bookingRepository.findById(bookingId).orElseThrow(() -> new NoSuchElementException("Booking not found"));
     }
 
-    private User getUser(Long userId) {
-        return userRepository.findById(userId).orElseThrow(() -> new NoSuchElementException("User not found"));
-    }
-
-    private Item getItem(Long itemId) {
-        return itemRepository.findById(itemId).orElseThrow(() -> new NoSuchElementException("Item not found"));
+    private Item getItemForUpdate(Long itemId) {
+        return itemRepository.findForUpdateById(itemId).orElseThrow(() -> new NoSuchElementException("Item not found"));
     }
 
     private void checkUserPermissionForBooking(Booking booking, Long userId) {
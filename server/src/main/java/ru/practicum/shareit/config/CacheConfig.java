@@ -0,0 +1,24 @@
+package ru.practicum.shareit.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    public static final String usersCache = "users";
+    public static final String itemsCache = "items";
+    public static final String calendarsCache = "calendars";
+
+    // A calendar goes stale by the clock as well as by booking writes, so it lives shorter than users/items
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> calendarsCacheCustomizer(
+            @Value("${shareit.cache.calendars.spec:maximumSize=10000,expireAfterWrite=30s,recordStats}") String spec) {
+        return cacheManager -> cacheManager.registerCustomCache(calendarsCache, Caffeine.from(spec).build());
+    }
+}
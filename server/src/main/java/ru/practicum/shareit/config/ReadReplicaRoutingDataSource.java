@@ -0,0 +1,86 @@
+package ru.practicum.shareit.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+public class ReadReplicaRoutingDataSource extends AbstractDataSource implements MeterBinder {
+    public static final String replicaFallbacksCounter = "shareit.datasource.replica.fallbacks";
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final long retryAfterMillis;
+    private final LongAdder fallbacks = new LongAdder();
+    private volatile long replicaRetryAt;
+
+    public ReadReplicaRoutingDataSource(DataSource primary, DataSource replica, Duration retryAfter) {
+        this.primary = primary;
+        this.replica = replica;
+        this.retryAfterMillis = retryAfter.toMillis();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(replicaFallbacksCounter, fallbacks, LongAdder::sum)
+                .description("Read-only transactions sent to the primary because the replica was unavailable")
+                .register(registry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!useReplica()) {
+            return primary.getConnection();
+        }
+        try {
+            return replica.getConnection();
+        } catch (SQLException e) {
+            return fallBackToPrimary(e);
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (!useReplica()) {
+            return primary.getConnection(username, password);
+        }
+        try {
+            return replica.getConnection(username, password);
+        } catch (SQLException e) {
+            return fallBackToPrimary(e);
+        }
+    }
+
+    // Also true while falling back to the primary, callers that must not see replica lag treat both alike
+    public boolean routesToReplica() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private boolean useReplica() {
+        if (!routesToReplica()) {
+            return false;
+        }
+        if (System.currentTimeMillis() < replicaRetryAt) {
+            fallbacks.increment();
+            return false;
+        }
+        return true;
+    }
+
+    private Connection fallBackToPrimary(SQLException e) throws SQLException {
+        replicaRetryAt = System.currentTimeMillis() + retryAfterMillis;
+        fallbacks.increment();
+        log.warn("Replica unavailable, routing read-only transactions to the primary for {} ms: {}",
+                retryAfterMillis, e.getMessage());
+        return primary.getConnection();
+    }
+}
@@ -0,0 +1,108 @@
+package ru.practicum.shareit.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// Values are shared between threads, so only immutable snapshots go in here.
+// Writers evict after their transaction committed and record the write. A reader that loaded before that
+// write checks for it after its put and evicts its own value, so the old row cannot stay cached.
+// Writes are remembered for replica.max-lag plus writeMemory; a load running longer than that is not guarded.
+// Replica reads of keys written within the last replica.max-lag are served but not cached: a replica
+// lagging less than that cannot hand back the row the eviction just dropped.
+@Component
+public class SharedCaches {
+    private static final Duration writeMemory = Duration.ofMinutes(1);
+
+    private final CacheManager cacheManager;
+    private final ReadReplicaRoutingDataSource routingDataSource;
+    private final long replicaMaxLagMillis;
+    private final AtomicLong writeSequence = new AtomicLong();
+    private final Map<List<Object>, Write> lastWrites;
+
+    public SharedCaches(CacheManager cacheManager, @Nullable ReadReplicaRoutingDataSource routingDataSource,
+                        @Value("${shareit.datasource.replica.max-lag:5s}") Duration replicaMaxLag) {
+        this.cacheManager = cacheManager;
+        this.routingDataSource = routingDataSource;
+        this.replicaMaxLagMillis = replicaMaxLag.toMillis();
+        this.lastWrites = Caffeine.newBuilder()
+                .expireAfterWrite(replicaMaxLag.plus(writeMemory))
+                .<List<Object>, Write>build()
+                .asMap();
+    }
+
+    public <T> T get(String cacheName, Object key, Class<T> type, Supplier<T> loader) {
+        Cache cache = cache(cacheName);
+        T cached = cache.get(key, type);
+        if (cached != null) {
+            return cached;
+        }
+        long loadStartedAfter = writeSequence.get();
+        T loaded = loader.get();
+        if (loaded == null || (readsFromReplica() && writtenWithinReplicaLag(cacheName, key))) {
+            return loaded;
+        }
+        cache.put(key, loaded);
+        Write write = lastWrites.get(List.of(cacheName, key));
+        if (write != null && write.getSequence() > loadStartedAfter) {
+            cache.evict(key);
+        }
+        return loaded;
+    }
+
+    public void evictAfterCommit(String cacheName, Object key) {
+        Cache cache = cache(cacheName);
+        afterCommit(() -> {
+            lastWrites.put(List.of(cacheName, key),
+                    new Write(writeSequence.incrementAndGet(), System.currentTimeMillis()));
+            cache.evict(key);
+        });
+    }
+
+    private boolean readsFromReplica() {
+        return routingDataSource != null && routingDataSource.routesToReplica();
+    }
+
+    private boolean writtenWithinReplicaLag(String cacheName, Object key) {
+        Write write = lastWrites.get(List.of(cacheName, key));
+        return write != null && System.currentTimeMillis() - write.getWrittenAt() < replicaMaxLagMillis;
+    }
+
+    private Cache cache(String cacheName) {
+        return Objects.requireNonNull(cacheManager.getCache(cacheName), cacheName);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static final class Write {
+        private final long sequence;
+        private final long writtenAt;
+    }
+}
@@ -0,0 +1,33 @@
+package ru.practicum.shareit.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SqlStatementCounter implements StatementInspector {
+    private static final ThreadLocal<AtomicInteger> statements = new ThreadLocal<>();
+
+    public static void start() {
+        statements.set(new AtomicInteger());
+    }
+
+    public static int current() {
+        AtomicInteger counter = statements.get();
+        return counter == null ? 0 : counter.get();
+    }
+
+    public static int stop() {
+        int count = current();
+        statements.remove();
+        return count;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        AtomicInteger counter = statements.get();
+        if (counter != null) {
+            counter.incrementAndGet();
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,7 @@
+package ru.practicum.shareit.handler;
+
+public class BookingConflictException extends ConflictException {
+    public BookingConflictException(String message) {
+        super(message);
+    }
+}
@@ -1,14 +1,19 @@
 package ru.practicum.shareit.item;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.item.dto.*;
 import ru.practicum.shareit.item.service.CommentService;
 import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.utility.Cursor;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static ru.practicum.shareit.utility.ControllerConstants.xSharerUserId;
+import static ru.practicum.shareit.utility.PaginationUtil.withNextCursor;
 
 @RestController
 @RequestMapping("/items")
@@ -38,10 +43,19 @@ public class ItemController {
     }
 
     @GetMapping()
-    public List<ItemGetResponse> getAll(@RequestHeader(xSharerUserId) Long userId,
-                                        @RequestParam(required = false, name = "from") Long from,
-                                        @RequestParam(required = false, name = "size") Long size) {
-        return itemService.getAll(userId, from, size);
+    public ResponseEntity<List<ItemGetResponse>> getAll(@RequestHeader(xSharerUserId) Long userId,
+                                                        @RequestParam(required = false, name = "from") Long from,
+                                                        @RequestParam(required = false, name = "size") Long size,
+                                                        @RequestParam(required = false, name = "cursor") String cursor) {
+        return withNextCursor(itemService.getAll(userId, from, size, cursor), size, item -> Cursor.of(item.getId()));
+    }
+
+    @GetMapping("/{itemId}/availability")
+    public ItemAvailabilityResponse getAvailability(@RequestHeader(xSharerUserId) Long userId,
+                                                    @PathVariable Long itemId,
+                                                    @RequestParam(name = "from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                    @RequestParam(name = "to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return itemService.getAvailability(itemId, userId, from, to);
     }
 
     @GetMapping("/search")
@@ -0,0 +1,48 @@
+package ru.practicum.shareit.item.availability;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.booking.dao.BookingRepository;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.config.SharedCaches;
+import ru.practicum.shareit.handler.ValidationException;
+import ru.practicum.shareit.item.dto.ItemAvailabilityResponse;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+
+import static ru.practicum.shareit.config.CacheConfig.calendarsCache;
+
+@Component
+@Slf4j
+public class ItemAvailabilityCalendar {
+    private static final Set<Status> busyStatuses = EnumSet.of(Status.WAITING, Status.APPROVED);
+
+    private final BookingRepository bookingRepository;
+    private final SharedCaches sharedCaches;
+
+    public ItemAvailabilityCalendar(BookingRepository bookingRepository, SharedCaches sharedCaches) {
+        this.bookingRepository = bookingRepository;
+        this.sharedCaches = sharedCaches;
+    }
+
+    public ItemAvailabilityResponse availability(Long itemId, LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new ValidationException("Availability range must end after it starts");
+        }
+        ItemCalendar calendar = sharedCaches.get(calendarsCache, itemId, ItemCalendar.class, () -> load(itemId));
+        ItemAvailabilityResponse response = calendar.between(from, to);
+        response.setItemId(itemId);
+        return response;
+    }
+
+    public void invalidate(Long itemId) {
+        sharedCaches.evictAfterCommit(calendarsCache, itemId);
+    }
+
+    private ItemCalendar load(Long itemId) {
+        log.debug("Loading availability calendar of item {}", itemId);
+        return ItemCalendar.of(bookingRepository.findIntervalsByItemId(itemId, busyStatuses));
+    }
+}
@@ -0,0 +1,68 @@
+package ru.practicum.shareit.item.availability;
+
+import ru.practicum.shareit.booking.dto.BookingIntervalView;
+import ru.practicum.shareit.item.dto.AvailabilityInterval;
+import ru.practicum.shareit.item.dto.ItemAvailabilityResponse;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+final class ItemCalendar implements Serializable {
+    private final LocalDateTime[] starts;
+    private final LocalDateTime[] ends;
+
+    private ItemCalendar(LocalDateTime[] starts, LocalDateTime[] ends) {
+        this.starts = starts;
+        this.ends = ends;
+    }
+
+    static ItemCalendar of(List<? extends BookingIntervalView> bookingsByStart) {
+        List<LocalDateTime> starts = new ArrayList<>();
+        List<LocalDateTime> ends = new ArrayList<>();
+        for (BookingIntervalView booking : bookingsByStart) {
+            int last = ends.size() - 1;
+            if (last >= 0 && !booking.getStart().isAfter(ends.get(last))) {
+                if (booking.getEnd().isAfter(ends.get(last))) {
+                    ends.set(last, booking.getEnd());
+                }
+            } else {
+                starts.add(booking.getStart());
+                ends.add(booking.getEnd());
+            }
+        }
+        return new ItemCalendar(starts.toArray(LocalDateTime[]::new), ends.toArray(LocalDateTime[]::new));
+    }
+
+    ItemAvailabilityResponse between(LocalDateTime from, LocalDateTime to) {
+        List<AvailabilityInterval> free = new ArrayList<>();
+        List<AvailabilityInterval> busy = new ArrayList<>();
+        LocalDateTime cursor = from;
+        for (int i = firstEndingAfter(from); i < starts.length && starts[i].isBefore(to); i++) {
+            LocalDateTime start = starts[i].isAfter(from) ? starts[i] : from;
+            LocalDateTime end = ends[i].isBefore(to) ? ends[i] : to;
+            if (cursor.isBefore(start)) {
+                free.add(new AvailabilityInterval(cursor, start));
+            }
+            busy.add(new AvailabilityInterval(start, end));
+            cursor = end;
+        }
+        if (cursor.isBefore(to)) {
+            free.add(new AvailabilityInterval(cursor, to));
+        }
+
+        ItemAvailabilityResponse response = new ItemAvailabilityResponse();
+        response.setFrom(from);
+        response.setTo(to);
+        response.setFree(free);
+        response.setBusy(busy);
+        return response;
+    }
+
+    private int firstEndingAfter(LocalDateTime time) {
+        int index = Arrays.binarySearch(ends, time);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+}
@@ -1,11 +1,17 @@
 package ru.practicum.shareit.item.dao;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ru.practicum.shareit.item.dto.CommentView;
 import ru.practicum.shareit.item.model.Comment;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    List<Comment> findByItemId(Long itemId);
-}
\ No newline at end of file
+    @Query("select c.id as id, c.text as text, c.item.id as itemId, a.name as authorName, c.created as created " +
+            "from Comment c join c.author a where c.item.id in :itemIds order by c.created, c.id")
+    List<CommentView> findByItemIdIn(@Param("itemIds") Collection<Long> itemIds);
+}
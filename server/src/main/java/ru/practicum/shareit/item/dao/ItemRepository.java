@@ -1,19 +1,45 @@
 package ru.practicum.shareit.item.dao;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ru.practicum.shareit.item.dto.ItemSearchView;
+import ru.practicum.shareit.item.dto.ItemSnapshot;
+import ru.practicum.shareit.item.dto.RequestedItemView;
 import ru.practicum.shareit.item.model.Item;
 
+import javax.persistence.LockModeType;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ItemRepository extends JpaRepository<Item, Long> {
 
+    @Override
+    @EntityGraph(Item.withOwnerAndRequest)
+    Optional<Item> findById(Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select i from Item i where i.id = :id")
+    Optional<Item> findForUpdateById(@Param("id") Long id);
+
+    @Query("select new ru.practicum.shareit.item.dto.ItemSnapshot(i.id, i.name, i.description, i.available, " +
+            "i.owner.id, r.id) from Item i left join i.request r where i.id = :id")
+    Optional<ItemSnapshot> findSnapshotById(@Param("id") Long id);
+
     List<Item> findAllByOwnerIdOrderById(Long ownerId, Pageable pageable);
 
-    List<Item> findAllByAvailableTrueAndDescriptionContainingIgnoreCaseOrNameContainingIgnoreCase(String description,
-                                                                                                  String name,
-                                                                                                  Pageable pageable);
+    List<Item> findAllByOwnerIdAndIdGreaterThanOrderById(Long ownerId, Long id, Pageable pageable);
+
+    @Query("select i.id as id, i.name as name, i.description as description, i.available as available " +
+            "from Item i where i.id in :ids and i.available = true")
+    List<ItemSearchView> findAvailableSearchViews(@Param("ids") Collection<Long> ids);
 
-    Boolean existsItemByOwnerIdAndId(Long ownerId, Long itemId);
+    @Query("select i.id as id, i.name as name, i.description as description, i.available as available, " +
+            "i.request.id as requestId from Item i where i.request.id in :requestIds order by i.id")
+    List<RequestedItemView> findRequestedItemViews(@Param("requestIds") Collection<Long> requestIds);
 
 }
\ No newline at end of file
@@ -13,4 +13,8 @@ public interface CommentConverter {
     CommentResponse convert(Comment comment);
 
     List<CommentResponse> convert(List<Comment> comments);
+
+    @Mapping(target = "item", ignore = true)
+    @Mapping(target = "author", ignore = true)
+    CommentResponse commentViewConvertToCommentResponse(CommentView view);
 }
\ No newline at end of file
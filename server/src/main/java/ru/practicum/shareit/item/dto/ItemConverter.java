@@ -12,7 +12,9 @@ public interface ItemConverter {
 
     ItemGetResponse itemConvertToItemGetResponse(Item item);
 
-    ItemSearchResponse itemConvertToItemSearchResponse(Item item);
+    ItemGetResponse itemSnapshotConvertToItemGetResponse(ItemSnapshot item);
+
+    ItemSearchResponse itemSearchViewConvertToItemSearchResponse(ItemSearchView view);
 
     Item itemUpdateRequestConvertToItem(ItemUpdateRequest request);
 
@@ -0,0 +1,13 @@
+package ru.practicum.shareit.item.dto;
+
+public interface RequestedItemView {
+    Long getId();
+
+    String getName();
+
+    String getDescription();
+
+    Boolean getAvailable();
+
+    Long getRequestId();
+}
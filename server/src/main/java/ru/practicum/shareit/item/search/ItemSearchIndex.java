@@ -0,0 +1,192 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.item.dao.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+
+import javax.annotation.PostConstruct;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ItemSearchIndex {
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int NAME_WEIGHT = 3;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final int EXACT_MATCH_BONUS = 2;
+
+    private final ItemRepository itemRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object rebuildMonitor = new Object();
+    private Postings postings = new Postings();
+    private Map<Long, IndexedItem> writesDuringRebuild;
+
+    // Built before the web server starts; a rebuild loads off to the side and replays writes that landed meanwhile
+    @PostConstruct
+    public void rebuild() {
+        synchronized (rebuildMonitor) {
+            lock.writeLock().lock();
+            try {
+                writesDuringRebuild = new HashMap<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            Postings rebuilt = null;
+            try {
+                List<Item> all = itemRepository.findAll();
+                rebuilt = new Postings();
+                all.forEach(rebuilt::put);
+            } finally {
+                swapIn(rebuilt);
+            }
+            log.info("Item search index built with {} items", rebuilt.size());
+        }
+    }
+
+    private void swapIn(Postings rebuilt) {
+        lock.writeLock().lock();
+        try {
+            if (rebuilt != null) {
+                writesDuringRebuild.values().forEach(rebuilt::put);
+                postings = rebuilt;
+            }
+            writesDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void index(Item item) {
+        IndexedItem indexed = IndexedItem.of(item);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    write(indexed);
+                }
+            });
+        } else {
+            write(indexed);
+        }
+    }
+
+    public List<Long> search(String query) {
+        List<String> terms = tokenize(query).stream().distinct().collect(Collectors.toList());
+        if (terms.isEmpty()) {
+            return Collections.emptyList();
+        }
+        lock.readLock().lock();
+        try {
+            Map<Long, Integer> scores = null;
+            for (String term : terms) {
+                Map<Long, Integer> termScores = postings.scoreTerm(term);
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    scores.keySet().retainAll(termScores.keySet());
+                    scores.replaceAll((id, score) -> score + termScores.get(id));
+                }
+                if (scores.isEmpty()) {
+                    return Collections.emptyList();
+                }
+            }
+            return scores.entrySet().stream()
+                    .filter(entry -> postings.isAvailable(entry.getKey()))
+                    .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void write(IndexedItem item) {
+        lock.writeLock().lock();
+        try {
+            postings.put(item);
+            if (writesDuringRebuild != null) {
+                writesDuringRebuild.put(item.getId(), item);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null) {
+            return Collections.emptyList();
+        }
+        return Arrays.stream(TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT)))
+                .filter(token -> !token.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    private static final class Postings {
+        private final NavigableMap<String, Map<Long, Integer>> tokens = new TreeMap<>();
+        private final Map<Long, IndexedItem> items = new HashMap<>();
+
+        void put(Item item) {
+            put(IndexedItem.of(item));
+        }
+
+        void put(IndexedItem item) {
+            IndexedItem previous = items.put(item.getId(), item);
+            if (previous != null) {
+                previous.getWeights().keySet().forEach(token -> {
+                    Map<Long, Integer> hits = tokens.get(token);
+                    hits.remove(previous.getId());
+                    if (hits.isEmpty()) {
+                        tokens.remove(token);
+                    }
+                });
+            }
+            item.getWeights().forEach((token, weight) ->
+                    tokens.computeIfAbsent(token, key -> new HashMap<>()).put(item.getId(), weight));
+        }
+
+        Map<Long, Integer> scoreTerm(String term) {
+            Map<Long, Integer> scores = new HashMap<>();
+            tokens.subMap(term, true, term + Character.MAX_VALUE, false).forEach((token, hits) -> {
+                int bonus = token.equals(term) ? EXACT_MATCH_BONUS : 1;
+                hits.forEach((id, weight) -> scores.merge(id, weight * bonus, Math::max));
+            });
+            return scores;
+        }
+
+        boolean isAvailable(Long id) {
+            return items.get(id).isAvailable();
+        }
+
+        int size() {
+            return items.size();
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class IndexedItem {
+        private final Long id;
+        private final boolean available;
+        private final Map<String, Integer> weights;
+
+        static IndexedItem of(Item item) {
+            Map<String, Integer> weights = new HashMap<>();
+            tokenize(item.getDescription()).forEach(token -> weights.merge(token, DESCRIPTION_WEIGHT, Math::max));
+            tokenize(item.getName()).forEach(token -> weights.merge(token, NAME_WEIGHT, Math::max));
+            return new IndexedItem(item.getId(), Boolean.TRUE.equals(item.getAvailable()), weights);
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package ru.practicum.shareit.item.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 import ru.practicum.shareit.booking.dao.BookingRepository;
+import ru.practicum.shareit.config.MetricsConfig;
 import ru.practicum.shareit.handler.NotFoundException;
 import ru.practicum.shareit.handler.ValidationException;
 import ru.practicum.shareit.item.dao.CommentRepository;
@@ -15,7 +17,6 @@ import ru.practicum.shareit.item.dto.CommentCreateRequest;
 import ru.practicum.shareit.item.dto.CommentResponse;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
-import ru.practicum.shareit.user.dao.UserRepository;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.service.UserService;
 
@@ -27,13 +28,13 @@ import java.time.LocalDateTime;
 @Transactional
 @Validated
 @Slf4j
+@Timed(MetricsConfig.serviceTimer)
 public class CommentServiceImpl implements CommentService {
 
     private final UserService userService;
 
     private final CommentRepository commentRepository;
     private final BookingRepository bookingRepository;
-    private final UserRepository userRepository;
     private final ItemRepository itemRepository;
 
     private final CommentConverter converter;
@@ -41,10 +42,9 @@ public class CommentServiceImpl implements CommentService {
     @Override
     public CommentResponse create(Long userId, Long itemId, @Valid CommentCreateRequest request) {
         log.info("Creating comment for user ID {} and item ID {}", userId, itemId);
-        userService.checkUserDoesntExistAndThrowIfNotFound(userId);
+        User author = userService.getExistingUser(userId);
         checkBookingExists(userId, itemId, LocalDateTime.now());
 
-        User author = getUser(userId);
         Item item = getItem(itemId);
 
         Comment comment = new Comment(request.getText(), item, author, LocalDateTime.now());
@@ -60,13 +60,6 @@ public class CommentServiceImpl implements CommentService {
         }
     }
 
-    private User getUser(Long userId) {
-        return userRepository.findById(userId).orElseThrow(() -> {
-            String errorMessage = "User with ID " + userId + " not found";
-            return new NotFoundException(errorMessage);
-        });
-    }
-
     private Item getItem(Long itemId) {
         return itemRepository.findById(itemId).orElseThrow(() -> {
             String errorMessage = "Item with ID " + itemId + " not found";
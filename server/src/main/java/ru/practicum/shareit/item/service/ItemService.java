@@ -3,6 +3,7 @@ package ru.practicum.shareit.item.service;
 import ru.practicum.shareit.item.dto.*;
 
 import javax.validation.Valid;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ItemService {
@@ -15,4 +16,8 @@ public interface ItemService {
     List<ItemSearchResponse> search(Long userId, String str, Long from, Long size);
 
     List<ItemGetResponse> getAll(Long ownerId, Long from, Long size);
+
+    List<ItemGetResponse> getAll(Long ownerId, Long from, Long size, String cursor);
+
+    ItemAvailabilityResponse getAvailability(Long itemId, Long userId, LocalDateTime from, LocalDateTime to);
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package ru.practicum.shareit.item.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -9,16 +10,21 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 import ru.practicum.shareit.booking.dao.BookingRepository;
 import ru.practicum.shareit.booking.dto.BookingConverter;
+import ru.practicum.shareit.booking.dto.BookingView;
 import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.config.MetricsConfig;
+import ru.practicum.shareit.config.SharedCaches;
 import ru.practicum.shareit.handler.NotFoundException;
+import ru.practicum.shareit.item.availability.ItemAvailabilityCalendar;
 import ru.practicum.shareit.item.dao.CommentRepository;
 import ru.practicum.shareit.item.dao.ItemRepository;
 import ru.practicum.shareit.item.dto.*;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
 import ru.practicum.shareit.itemRequest.dao.ItemRequestRepository;
-import ru.practicum.shareit.user.dao.UserRepository;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.service.UserService;
+import ru.practicum.shareit.utility.Cursor;
 
 import javax.persistence.EntityNotFoundException;
 import javax.validation.Valid;
@@ -27,9 +33,14 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import static ru.practicum.shareit.config.CacheConfig.itemsCache;
+import static ru.practicum.shareit.utility.PaginationUtil.getCursorPageable;
 import static ru.practicum.shareit.utility.PaginationUtil.getPageable;
 
 @Service
@@ -37,10 +48,10 @@ import static ru.practicum.shareit.utility.PaginationUtil.getPageable;
 @Slf4j
 @Transactional
 @Validated
+@Timed(MetricsConfig.serviceTimer)
 public class ItemServiceImpl implements ItemService {
 
     private final ItemRepository itemRepository;
-    private final UserRepository userRepository;
     private final BookingRepository bookingRepository;
     private final CommentRepository commentRepository;
     private final ItemRequestRepository itemRequestRepository;
@@ -51,6 +62,10 @@ public class ItemServiceImpl implements ItemService {
 
     private final UserService userService;
 
+    private final ItemSearchIndex itemSearchIndex;
+    private final ItemAvailabilityCalendar availabilityCalendar;
+    private final SharedCaches sharedCaches;
+
     public static void copy(Item newItem, Item oldItem) {
         if (newItem.getName() != null) oldItem.setName(newItem.getName());
         if (newItem.getDescription() != null) oldItem.setDescription(newItem.getDescription());
@@ -63,11 +78,13 @@ public class ItemServiceImpl implements ItemService {
     public ItemCreateResponse create(@Valid ItemCreateRequest request, Long ownerId) {
         log.info("Creating item {}", request);
         Item item = itemConverter.itemCreateRequestConvertToItem(request);
-        User owner = userRepository.findById(ownerId).orElseThrow(() -> new EntityNotFoundException("User with ID " + ownerId + " not found"));
+        User owner = userService.getExistingUser(ownerId);
         item.setOwner(owner);
         Optional<Long> requestId = Optional.ofNullable(request.getRequestId());
         requestId.ifPresent(id -> item.setRequest(itemRequestRepository.findById(id).orElseThrow(() -> new ValidationException("Request with ID " + id + " not found"))));
-        ItemCreateResponse response = itemConverter.itemConvertToItemCreateResponse(itemRepository.save(item));
+        Item savedItem = itemRepository.save(item);
+        itemSearchIndex.index(savedItem);
+        ItemCreateResponse response = itemConverter.itemConvertToItemCreateResponse(savedItem);
         requestId.ifPresent(response::setRequestId);
         return response;
     }
@@ -75,71 +92,138 @@ public class ItemServiceImpl implements ItemService {
     @Override
     public ItemUpdateResponse update(ItemUpdateRequest request, Long ownerId, Long itemId) {
         log.info("Updating item {} with owner id {}", request, ownerId);
-        userService.checkUserDoesntExistAndThrowIfNotFound(ownerId);
         Item newItem = itemConverter.itemUpdateRequestConvertToItem(request);
-        Item oldItem = getItem(itemId);
-        copy(newItem, oldItem);
-        checkItsItemOwner(ownerId, oldItem);
-        return itemConverter.itemConvertToItemUpdateResponse(itemRepository.save(oldItem));
+        Item item = itemRepository.findForUpdateById(itemId)
+                .orElseThrow(() -> new EntityNotFoundException("Item with ID " + itemId + " not found"));
+        checkItsItemOwner(ownerId, item);
+        copy(newItem, item);
+        Item savedItem = itemRepository.save(item);
+        sharedCaches.evictAfterCommit(itemsCache, itemId);
+        itemSearchIndex.index(savedItem);
+        return itemConverter.itemConvertToItemUpdateResponse(savedItem);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ItemGetResponse> getAll(Long ownerId, Long from, Long size) {
-        Pageable pageable = getPageable(from, size);
-        log.info("Getting items with pagination for user with id {}", ownerId);
+        return getAll(ownerId, from, size, null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ItemGetResponse> getAll(Long ownerId, Long from, Long size, String cursorStr) {
+        log.info("Getting items with pagination for user with id {}, cursor {}", ownerId, cursorStr);
         userService.checkUserDoesntExistAndThrowIfNotFound(ownerId);
-        List<Item> items = itemRepository.findAllByOwnerIdOrderById(ownerId, pageable);
+        List<Item> items;
+        if (cursorStr != null) {
+            Cursor cursor = Cursor.decode(cursorStr);
+            items = itemRepository.findAllByOwnerIdAndIdGreaterThanOrderById(ownerId, cursor.getId(), getCursorPageable(size));
+        } else {
+            items = itemRepository.findAllByOwnerIdOrderById(ownerId, getPageable(from, size));
+        }
         return getItemResponses(items);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ItemSearchResponse> search(Long userId, String str, Long from, Long size) {
         log.info("Searching items by keyword {}", str);
         userService.checkUserDoesntExistAndThrowIfNotFound(userId);
         Pageable pageable = getPageable(from, size);
-        List<Item> itemPage = searchAvailableItemsByStr(str, pageable);
-        return itemPage.stream().map(itemConverter::itemConvertToItemSearchResponse).collect(Collectors.toList());
+        List<ItemSearchView> itemPage = searchAvailableItemsByStr(str, pageable);
+        return itemPage.stream().map(itemConverter::itemSearchViewConvertToItemSearchResponse).collect(Collectors.toList());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ItemGetResponse get(Long itemId, Long userId) {
         log.info("Getting item with id {}, user id {}", itemId, userId);
         userService.checkUserDoesntExistAndThrowIfNotFound(userId);
-        ItemGetResponse response = itemConverter.itemConvertToItemGetResponse(getItem(itemId));
-        if (itemRepository.existsItemByOwnerIdAndId(userId, itemId) && bookingRepository.existsBookingByItemId(itemId)) {
-            setBookingInfo(response, itemId);
+        ItemSnapshot item = getItem(itemId);
+        ItemGetResponse response = itemConverter.itemSnapshotConvertToItemGetResponse(item);
+        if (item.getOwnerId().equals(userId) && bookingRepository.existsBookingByItemId(itemId)) {
+            setBookingInfo(List.of(response));
         }
-        response.setComments(commentConverter.convert(commentRepository.findByItemId(itemId)));
+        setComments(List.of(response));
         return response;
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public ItemAvailabilityResponse getAvailability(Long itemId, Long userId, LocalDateTime from, LocalDateTime to) {
+        log.info("Getting availability of item {} from {} to {}, user id {}", itemId, from, to, userId);
+        userService.checkUserDoesntExistAndThrowIfNotFound(userId);
+        getItem(itemId);
+        return availabilityCalendar.availability(itemId, from, to);
+    }
+
     private List<ItemGetResponse> getItemResponses(List<Item> items) {
         List<ItemGetResponse> itemResponses = new ArrayList<>();
         for (Item item : items) {
-            ItemGetResponse response = itemConverter.itemConvertToItemGetResponse(item);
-            setBookingInfo(response, item.getId());
-            itemResponses.add(response);
+            itemResponses.add(itemConverter.itemConvertToItemGetResponse(item));
         }
+        setBookingInfo(itemResponses);
+        setComments(itemResponses);
         return itemResponses;
     }
 
-    private void setBookingInfo(ItemGetResponse response, Long itemId) {
-        response.setLastBooking(bookingConverter.bookingConvertToBookingResponse(bookingRepository.findFirstByItemIdAndStartBeforeOrderByStartDesc(itemId, LocalDateTime.now())));
-        response.setNextBooking(bookingConverter.bookingConvertToBookingResponse(bookingRepository.findFirstByItemIdAndStartAfterOrderByStartAsc(itemId, LocalDateTime.now())));
-        checkRejectedNextBooking(response);
+    private void setBookingInfo(List<ItemGetResponse> responses) {
+        if (responses.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> itemIds = responses.stream().map(ItemGetResponse::getId).collect(Collectors.toList());
+        Map<Long, BookingView> lastBookings = groupByItemId(bookingRepository.findLastBookingsByItemIds(itemIds, now));
+        Map<Long, BookingView> nextBookings = groupByItemId(bookingRepository.findNextBookingsByItemIds(itemIds, now));
+        for (ItemGetResponse response : responses) {
+            response.setLastBooking(bookingConverter.bookingViewConvertToBookingResponse(lastBookings.get(response.getId())));
+            response.setNextBooking(bookingConverter.bookingViewConvertToBookingResponse(nextBookings.get(response.getId())));
+            checkRejectedNextBooking(response);
+        }
+    }
+
+    private void setComments(List<ItemGetResponse> responses) {
+        if (responses.isEmpty()) {
+            return;
+        }
+        List<Long> itemIds = responses.stream().map(ItemGetResponse::getId).collect(Collectors.toList());
+        Map<Long, List<CommentResponse>> comments = commentRepository.findByItemIdIn(itemIds).stream()
+                .collect(Collectors.groupingBy(CommentView::getItemId,
+                        Collectors.mapping(commentConverter::commentViewConvertToCommentResponse, Collectors.toList())));
+        for (ItemGetResponse response : responses) {
+            response.setComments(comments.getOrDefault(response.getId(), new ArrayList<>()));
+        }
+    }
+
+    private Map<Long, BookingView> groupByItemId(List<BookingView> bookings) {
+        return bookings.stream().collect(Collectors.toMap(BookingView::getItemId, Function.identity(),
+                (first, second) -> first));
     }
 
     private void checkItsItemOwner(Long ownerId, Item item) {
         if (!item.getOwner().getId().equals(ownerId)) {
+            userService.checkUserDoesntExistAndThrowIfNotFound(ownerId);
             throw new NotFoundException("Cannot update item through a different user");
         }
     }
 
-    private List<Item> searchAvailableItemsByStr(String str, Pageable pageable) {
+    private List<ItemSearchView> searchAvailableItemsByStr(String str, Pageable pageable) {
         if (StringUtils.isBlank(str)) {
             return Collections.emptyList();
         }
-        return itemRepository.findAllByAvailableTrueAndDescriptionContainingIgnoreCaseOrNameContainingIgnoreCase(str.toUpperCase(), str.toUpperCase(), pageable);
+        List<Long> rankedIds = itemSearchIndex.search(str);
+        if (pageable.isPaged()) {
+            rankedIds = rankedIds.stream()
+                    .skip(pageable.getOffset())
+                    .limit(pageable.getPageSize())
+                    .collect(Collectors.toList());
+        }
+        if (rankedIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Long, ItemSearchView> items = itemRepository.findAvailableSearchViews(rankedIds).stream()
+                .collect(Collectors.toMap(ItemSearchView::getId, Function.identity()));
+        return rankedIds.stream().map(items::get).filter(Objects::nonNull).collect(Collectors.toList());
     }
 
     private void checkRejectedNextBooking(ItemGetResponse response) {
@@ -148,7 +232,12 @@ public class ItemServiceImpl implements ItemService {
         }
     }
 
-    private Item getItem(Long itemId) {
-        return itemRepository.findById(itemId).orElseThrow(() -> new EntityNotFoundException("Item with ID " + itemId + " not found"));
+    private ItemSnapshot getItem(Long itemId) {
+        ItemSnapshot item = sharedCaches.get(itemsCache, itemId, ItemSnapshot.class,
+                () -> itemRepository.findSnapshotById(itemId).orElse(null));
+        if (item == null) {
+            throw new EntityNotFoundException("Item with ID " + itemId + " not found");
+        }
+        return item;
     }
 }
\ No newline at end of file
@@ -1,15 +1,18 @@
 package ru.practicum.shareit.itemRequest;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.itemRequest.dto.ItemRequestCreateRequest;
 import ru.practicum.shareit.itemRequest.dto.ItemRequestCreateResponse;
 import ru.practicum.shareit.itemRequest.dto.ItemRequestGetResponse;
 import ru.practicum.shareit.itemRequest.service.ItemRequestService;
+import ru.practicum.shareit.utility.Cursor;
 
 import java.util.List;
 
 import static ru.practicum.shareit.utility.ControllerConstants.xSharerUserId;
+import static ru.practicum.shareit.utility.PaginationUtil.withNextCursor;
 
 @RestController
 @RequestMapping(path = "/requests")
@@ -30,10 +33,12 @@ public class ItemRequestController {
     }
 
     @GetMapping("/all")
-    public List<ItemRequestGetResponse> get(@RequestHeader(xSharerUserId) Long userId,
-                                            @RequestParam(required = false, name = "from") Long from,
-                                            @RequestParam(required = false, name = "size") Long size) {
-        return service.getUserItemRequests(userId, from, size);
+    public ResponseEntity<List<ItemRequestGetResponse>> get(@RequestHeader(xSharerUserId) Long userId,
+                                                            @RequestParam(required = false, name = "from") Long from,
+                                                            @RequestParam(required = false, name = "size") Long size,
+                                                            @RequestParam(required = false, name = "cursor") String cursor) {
+        return withNextCursor(service.getUserItemRequests(userId, from, size, cursor), size,
+                request -> new Cursor(request.getCreated(), request.getId()));
     }
 
     @GetMapping("/{requestId}")
@@ -1,14 +1,35 @@
 package ru.practicum.shareit.itemRequest.dao;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ru.practicum.shareit.itemRequest.dto.ItemRequestView;
 import ru.practicum.shareit.itemRequest.model.ItemRequest;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface ItemRequestRepository extends JpaRepository<ItemRequest, Long> {
-    List<ItemRequest> findAllByOwner_IdOrderByCreatedDesc(Long userId);
 
-    List<ItemRequest> findAllByIdGreaterThanOrderByCreatedDesc(Long idFrom, Pageable pageable);
+    @EntityGraph(ItemRequest.withItems)
+    Optional<ItemRequest> findWithItemsById(Long id);
 
-}
\ No newline at end of file
+    @Query("select r.id as id, r.description as description, r.created as created " +
+            "from ItemRequest r where r.owner.id = :userId order by r.created desc")
+    List<ItemRequestView> findViewsByOwnerId(@Param("userId") Long userId);
+
+    @Query("select r.id as id, r.description as description, r.created as created " +
+            "from ItemRequest r where r.owner.id <> :userId order by r.created desc, r.id desc")
+    List<ItemRequestView> findFeedViews(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("select r.id as id, r.description as description, r.created as created " +
+            "from ItemRequest r " +
+            "where r.owner.id <> :userId and (r.created < :created or (r.created = :created and r.id < :id)) " +
+            "order by r.created desc, r.id desc")
+    List<ItemRequestView> findFeedViewsBefore(@Param("userId") Long userId, @Param("created") LocalDateTime created,
+                                              @Param("id") Long id, Pageable pageable);
+
+}
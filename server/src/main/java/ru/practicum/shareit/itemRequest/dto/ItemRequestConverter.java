@@ -5,11 +5,10 @@ import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 import ru.practicum.shareit.item.dto.ItemGetItemResponse;
+import ru.practicum.shareit.item.dto.RequestedItemView;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.itemRequest.model.ItemRequest;
 
-import java.util.List;
-
 @Mapper(componentModel = "spring")
 public interface ItemRequestConverter {
     @Mapping(target = "created", expression = "java(java.time.LocalDateTime.now())")
@@ -19,11 +18,14 @@ public interface ItemRequestConverter {
 
     ItemRequestGetResponse convertToGetResponse(ItemRequest item);
 
-    List<ItemRequestGetResponse> convertToListGetResponse(List<ItemRequest> itemRequests);
+    @Mapping(target = "items", ignore = true)
+    ItemRequestGetResponse viewConvertToGetResponse(ItemRequestView view);
 
     @Mapping(target = "requestId", ignore = true)
     ItemGetItemResponse itemConvertToItemGetItemRequest(Item item);
 
+    ItemGetItemResponse requestedItemViewConvertToItemGetItemResponse(RequestedItemView view);
+
     @AfterMapping
     default void setRequestId(@MappingTarget ItemGetItemResponse response, Item item) {
         response.setRequestId(item.getRequest() != null ? item.getRequest().getId() : null);
@@ -0,0 +1,11 @@
+package ru.practicum.shareit.itemRequest.dto;
+
+import java.time.LocalDateTime;
+
+public interface ItemRequestView {
+    Long getId();
+
+    String getDescription();
+
+    LocalDateTime getCreated();
+}
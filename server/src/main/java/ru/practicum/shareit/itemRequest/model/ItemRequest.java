@@ -1,5 +1,7 @@
 package ru.practicum.shareit.itemRequest.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
@@ -14,8 +16,12 @@ import java.util.List;
 @Setter
 @RequiredArgsConstructor
 @Entity
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @Table(name = "requests")
+@NamedEntityGraph(name = ItemRequest.withItems, attributeNodes = @NamedAttributeNode("items"))
 public class ItemRequest {
+    public static final String withItems = "ItemRequest.withItems";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -23,7 +29,9 @@ public class ItemRequest {
     private LocalDateTime created;
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(referencedColumnName = "id", name = "requester_id")
+    @JsonIgnore
     private User owner;
     @OneToMany(mappedBy = "request")
+    @JsonIgnore
     private List<Item> items;
 }
\ No newline at end of file
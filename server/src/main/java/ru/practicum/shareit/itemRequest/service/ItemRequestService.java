@@ -13,5 +13,7 @@ public interface ItemRequestService {
 
     List<ItemRequestGetResponse> getUserItemRequests(Long userId, Long from, Long size);
 
+    List<ItemRequestGetResponse> getUserItemRequests(Long userId, Long from, Long size, String cursor);
+
     ItemRequestGetResponse getRequest(Long userId, Long requestId);
 }
\ No newline at end of file
@@ -1,24 +1,34 @@
 package ru.practicum.shareit.itemRequest.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
+import ru.practicum.shareit.config.MetricsConfig;
 import ru.practicum.shareit.handler.NotFoundException;
 import ru.practicum.shareit.handler.ValidationException;
+import ru.practicum.shareit.item.dao.ItemRepository;
+import ru.practicum.shareit.item.dto.ItemGetItemResponse;
+import ru.practicum.shareit.item.dto.RequestedItemView;
 import ru.practicum.shareit.itemRequest.dao.ItemRequestRepository;
 import ru.practicum.shareit.itemRequest.dto.ItemRequestConverter;
 import ru.practicum.shareit.itemRequest.dto.ItemRequestCreateRequest;
 import ru.practicum.shareit.itemRequest.dto.ItemRequestCreateResponse;
 import ru.practicum.shareit.itemRequest.dto.ItemRequestGetResponse;
+import ru.practicum.shareit.itemRequest.dto.ItemRequestView;
 import ru.practicum.shareit.itemRequest.model.ItemRequest;
-import ru.practicum.shareit.user.dao.UserRepository;
+import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.service.UserService;
+import ru.practicum.shareit.utility.Cursor;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
+import static ru.practicum.shareit.utility.PaginationUtil.getCursorPageable;
 import static ru.practicum.shareit.utility.PaginationUtil.getPageable;
 
 @RequiredArgsConstructor
@@ -26,10 +36,11 @@ import static ru.practicum.shareit.utility.PaginationUtil.getPageable;
 @Transactional
 @Validated
 @Slf4j
+@Timed(MetricsConfig.serviceTimer)
 public class ItemRequestServiceImpl implements ItemRequestService {
 
     private final ItemRequestRepository itemRequestRepository;
-    private final UserRepository userRepository;
+    private final ItemRepository itemRepository;
 
     private final ItemRequestConverter itemRequestConverter;
 
@@ -38,37 +49,67 @@ public class ItemRequestServiceImpl implements ItemRequestService {
     @Override
     public ItemRequestCreateResponse create(ItemRequestCreateRequest request, Long userId) {
         log.info("Creating ItemRequest {}, user id {}", request, userId);
-        userService.checkUserDoesntExistAndThrowIfNotFound(userId);
+        User owner = userService.getExistingUser(userId);
         checkItemRequestIsCorrect(request);
         ItemRequest item = itemRequestConverter.itemRequestCreateRequestConvertToItemRequest(request);
-        item.setOwner(userRepository.getReferenceById(userId));
+        item.setOwner(owner);
         return itemRequestConverter.itemRequestConvertToItemRequestCreateResponse(itemRequestRepository.save(item));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ItemRequestGetResponse> getUserItemRequests(Long userId) {
         userService.checkUserDoesntExistAndThrowIfNotFound(userId);
-        List<ItemRequest> itemRequests = itemRequestRepository.findAllByOwner_IdOrderByCreatedDesc(userId);
-        return itemRequestConverter.convertToListGetResponse(itemRequests);
+        return getResponses(itemRequestRepository.findViewsByOwnerId(userId));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ItemRequestGetResponse> getUserItemRequests(Long userId, Long from, Long size) {
+        return getUserItemRequests(userId, from, size, null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ItemRequestGetResponse> getUserItemRequests(Long userId, Long from, Long size, String cursorStr) {
         userService.checkUserDoesntExistAndThrowIfNotFound(userId);
-        Pageable pageable = getPageable(from, size);
-        List<ItemRequest> itemRequests = itemRequestRepository.findAllByIdGreaterThanOrderByCreatedDesc(from, pageable);
-        itemRequests.removeIf(request -> request.getOwner().getId().equals(userId));
-        return itemRequestConverter.convertToListGetResponse(itemRequests);
+        List<ItemRequestView> itemRequests;
+        if (cursorStr != null) {
+            Cursor cursor = Cursor.decodeWithTime(cursorStr);
+            itemRequests = itemRequestRepository.findFeedViewsBefore(userId, cursor.getTime(), cursor.getId(),
+                    getCursorPageable(size));
+        } else {
+            itemRequests = itemRequestRepository.findFeedViews(userId, getPageable(from, size));
+        }
+        return getResponses(itemRequests);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ItemRequestGetResponse getRequest(Long userId, Long requestId) {
         userService.checkUserDoesntExistAndThrowIfNotFound(userId);
-        ItemRequest itemRequest = itemRequestRepository.findById(requestId)
+        ItemRequest itemRequest = itemRequestRepository.findWithItemsById(requestId)
                 .orElseThrow(() -> new NotFoundException("Request with ID " + requestId + " not found"));
         return itemRequestConverter.convertToGetResponse(itemRequest);
     }
 
+    private List<ItemRequestGetResponse> getResponses(List<ItemRequestView> views) {
+        if (views.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Long> requestIds = views.stream().map(ItemRequestView::getId).collect(Collectors.toList());
+        Map<Long, List<ItemGetItemResponse>> items = itemRepository.findRequestedItemViews(requestIds).stream()
+                .collect(Collectors.groupingBy(RequestedItemView::getRequestId, Collectors.mapping(
+                        itemRequestConverter::requestedItemViewConvertToItemGetItemResponse, Collectors.toList())));
+        List<ItemRequestGetResponse> responses = new ArrayList<>();
+        for (ItemRequestView view : views) {
+            ItemRequestGetResponse response = itemRequestConverter.viewConvertToGetResponse(view);
+            response.setItems(items.getOrDefault(view.getId(), new ArrayList<>()));
+            responses.add(response);
+        }
+        return responses;
+    }
+
     private void checkItemRequestIsCorrect(ItemRequestCreateRequest request) {
         if (request == null) {
             throw new ValidationException("Request is null");
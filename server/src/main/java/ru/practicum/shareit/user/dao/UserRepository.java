@@ -6,4 +6,4 @@ import ru.practicum.shareit.user.model.User;
 public interface UserRepository extends JpaRepository<User, Long> {
 
     Boolean existsByEmailAndIdNot(String email, Long id);
-}
\ No newline at end of file
+}
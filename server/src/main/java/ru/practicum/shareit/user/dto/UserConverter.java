@@ -14,6 +14,8 @@ public interface UserConverter {
 
     UserResponse userConvertToUserResponse(User user);
 
+    UserResponse userSnapshotConvertToUserResponse(UserSnapshot user);
+
     List<UserResponse> userConvertToUserResponse(List<User> users);
 
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package ru.practicum.shareit.user.dto;
+
+import lombok.Value;
+import ru.practicum.shareit.user.model.User;
+
+import java.io.Serializable;
+
+@Value
+public class UserSnapshot implements Serializable {
+    Long id;
+    String name;
+    String email;
+
+    public static UserSnapshot of(User user) {
+        return new UserSnapshot(user.getId(), user.getName(), user.getEmail());
+    }
+}
@@ -0,0 +1,36 @@
+package ru.practicum.shareit.user.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import ru.practicum.shareit.user.dto.UserSnapshot;
+
+import java.util.function.Function;
+
+// Keeps the users verified while serving the current HTTP request, so the X-Sharer-User-Id user is looked up
+// once no matter how many services check it. Outside a request every call goes to the loader.
+@Component
+public class RequestUserCache {
+    private static final String attributePrefix = RequestUserCache.class.getName() + ".";
+
+    public UserSnapshot get(Long userId, Function<Long, UserSnapshot> loader) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return loader.apply(userId);
+        }
+        String name = attributePrefix + userId;
+        UserSnapshot user = (UserSnapshot) attributes.getAttribute(name, RequestAttributes.SCOPE_REQUEST);
+        if (user == null) {
+            user = loader.apply(userId);
+            attributes.setAttribute(name, user, RequestAttributes.SCOPE_REQUEST);
+        }
+        return user;
+    }
+
+    public void forget(Long userId) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.removeAttribute(attributePrefix + userId, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+}
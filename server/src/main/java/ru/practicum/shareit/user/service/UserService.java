@@ -2,7 +2,9 @@ package ru.practicum.shareit.user.service;
 
 import ru.practicum.shareit.user.dto.UserCreateRequest;
 import ru.practicum.shareit.user.dto.UserResponse;
+import ru.practicum.shareit.user.dto.UserSnapshot;
 import ru.practicum.shareit.user.dto.UserUpdateRequest;
+import ru.practicum.shareit.user.model.User;
 
 import javax.validation.Valid;
 import java.util.List;
@@ -18,5 +20,9 @@ public interface UserService {
 
     List<UserResponse> getAll();
 
+    UserSnapshot getUserSnapshot(Long userId);
+
+    User getExistingUser(Long userId);
+
     void checkUserDoesntExistAndThrowIfNotFound(Long userId);
 }
\ No newline at end of file
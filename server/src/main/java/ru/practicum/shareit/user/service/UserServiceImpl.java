@@ -1,31 +1,40 @@
 package ru.practicum.shareit.user.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
+import ru.practicum.shareit.config.MetricsConfig;
+import ru.practicum.shareit.config.SharedCaches;
 import ru.practicum.shareit.handler.ConflictException;
 import ru.practicum.shareit.handler.NotFoundException;
 import ru.practicum.shareit.user.dao.UserRepository;
 import ru.practicum.shareit.user.dto.UserConverter;
 import ru.practicum.shareit.user.dto.UserCreateRequest;
 import ru.practicum.shareit.user.dto.UserResponse;
+import ru.practicum.shareit.user.dto.UserSnapshot;
 import ru.practicum.shareit.user.dto.UserUpdateRequest;
 import ru.practicum.shareit.user.model.User;
 
 import javax.validation.Valid;
 import java.util.List;
 
+import static ru.practicum.shareit.config.CacheConfig.usersCache;
+
 @Service
 @Slf4j
 @RequiredArgsConstructor
 @Transactional
 @Validated
+@Timed(MetricsConfig.serviceTimer)
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final UserConverter userConverter;
+    private final SharedCaches sharedCaches;
+    private final RequestUserCache requestUserCache;
 
     @Override
     public UserResponse create(@Valid UserCreateRequest request) {
@@ -35,48 +44,78 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public UserResponse get(Long userId) {
         log.info("Retrieving user with ID: {}", userId);
-        checkUserDoesntExistAndThrowIfNotFound(userId);
-        return userConverter.userConvertToUserResponse(userRepository.getReferenceById(userId));
+        return userConverter.userSnapshotConvertToUserResponse(getUserSnapshot(userId));
     }
 
     @Override
     public UserResponse update(UserUpdateRequest request, Long userId) {
         log.info("Updating user with ID: {}, request: {}", userId, request);
-        checkUserDoesntExistAndThrowIfNotFound(userId);
+        User user = findUser(userId);
         checkUserAlreadyExistsByEmailAndThrowIfFound(request.getEmail(), userId);
-        User updatedUser = userConverter.userUpdateRequestConvertToUser(request);
-        User existingUser = userRepository.getReferenceById(userId);
-        if (updatedUser.getName() != null) {
-            existingUser.setName(updatedUser.getName());
+        User changes = userConverter.userUpdateRequestConvertToUser(request);
+        if (changes.getName() != null) {
+            user.setName(changes.getName());
         }
-        if (updatedUser.getEmail() != null) {
-            existingUser.setEmail(updatedUser.getEmail());
+        if (changes.getEmail() != null) {
+            user.setEmail(changes.getEmail());
         }
-        return userConverter.userConvertToUserResponse(userRepository.save(existingUser));
+        User savedUser = userRepository.save(user);
+        requestUserCache.forget(userId);
+        sharedCaches.evictAfterCommit(usersCache, userId);
+        return userConverter.userConvertToUserResponse(savedUser);
     }
 
     @Override
     public UserResponse delete(Long userId) {
         log.info("Deleting user with ID: {}", userId);
-        checkUserDoesntExistAndThrowIfNotFound(userId);
-        User deletedUser = userRepository.getReferenceById(userId);
-        userRepository.deleteById(userId);
+        User deletedUser = findUser(userId);
+        userRepository.delete(deletedUser);
+        requestUserCache.forget(userId);
+        sharedCaches.evictAfterCommit(usersCache, userId);
         return userConverter.userConvertToUserResponse(deletedUser);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<UserResponse> getAll() {
         log.info("Retrieving all users");
         return userConverter.userConvertToUserResponse(userRepository.findAll());
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public UserSnapshot getUserSnapshot(Long userId) {
+        return requestUserCache.get(userId, this::loadUserSnapshot);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public User getExistingUser(Long userId) {
+        getUserSnapshot(userId);
+        return userRepository.getReferenceById(userId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public void checkUserDoesntExistAndThrowIfNotFound(Long userId) {
-        if (!userRepository.existsById(userId)) {
+        getUserSnapshot(userId);
+    }
+
+    private UserSnapshot loadUserSnapshot(Long userId) {
+        UserSnapshot user = sharedCaches.get(usersCache, userId, UserSnapshot.class,
+                () -> userRepository.findById(userId).map(UserSnapshot::of).orElse(null));
+        if (user == null) {
             throw new NotFoundException("User not found with ID: " + userId);
         }
+        return user;
+    }
+
+    private User findUser(Long userId) {
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new NotFoundException("User not found with ID: " + userId));
     }
 
     private void checkUserAlreadyExistsByEmailAndThrowIfFound(String email, Long userId) {
@@ -2,4 +2,5 @@ package ru.practicum.shareit.utility;
 
 public final class ControllerConstants {
     public static final String xSharerUserId = "X-Sharer-User-Id";
-}
\ No newline at end of file
+    public static final String xNextCursor = "X-Next-Cursor";
+}
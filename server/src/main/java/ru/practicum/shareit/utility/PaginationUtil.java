@@ -2,6 +2,12 @@ package ru.practicum.shareit.utility;
 
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static ru.practicum.shareit.utility.ControllerConstants.xNextCursor;
 
 public class PaginationUtil {
 
@@ -14,4 +20,22 @@ public class PaginationUtil {
             return PageRequest.of((int) (from / size), size.intValue());
         }
     }
-}
\ No newline at end of file
+
+    public static Pageable getCursorPageable(Long size) {
+        if (size == null) {
+            return Pageable.unpaged();
+        } else if (size < 1) {
+            throw new ru.practicum.shareit.handler.ValidationException("Invalid pagination parameters");
+        } else {
+            return PageRequest.of(0, size.intValue());
+        }
+    }
+
+    public static <T> ResponseEntity<List<T>> withNextCursor(List<T> page, Long size, Function<T, Cursor> cursorOf) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (size != null && !page.isEmpty() && page.size() >= size) {
+            builder.header(xNextCursor, cursorOf.apply(page.get(page.size() - 1)).encode());
+        }
+        return builder.body(page);
+    }
+}
@@ -0,0 +1,17 @@
+-- last/next booking per item, item bookings by time
+CREATE INDEX IF NOT EXISTS idx_bookings_item_start ON bookings (item_id, booking_start);
+
+-- booker's bookings ordered by start
+CREATE INDEX IF NOT EXISTS idx_bookings_booker_start ON bookings (user_id, booking_start);
+
+-- owner's items ordered by id, owner's bookings via items
+CREATE INDEX IF NOT EXISTS idx_items_owner ON items (owner_id, id);
+
+-- items created in response to a request
+CREATE INDEX IF NOT EXISTS idx_items_request ON items (request_id);
+
+-- item comments ordered by creation time
+CREATE INDEX IF NOT EXISTS idx_comments_item_created ON comments (item_id, create_time);
+
+-- requester's own requests ordered by creation time
+CREATE INDEX IF NOT EXISTS idx_requests_requester_created ON requests (requester_id, created);
@@ -0,0 +1,2 @@
+-- other users' requests feed, newest first with keyset on (created, id)
+CREATE INDEX IF NOT EXISTS idx_requests_created_id ON requests (created DESC, id DESC, requester_id);
@@ -0,0 +1,2 @@
+-- optimistic locking of bookings, see Booking.version
+ALTER TABLE bookings ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -95,7 +95,7 @@ class ItemRequestControllerTest {
         itemRequest1.setDescription("description1");
         expectedResponses.add(itemRequest1);
 
-        when(itemRequestService.getUserItemRequests(anyLong(), anyLong(), anyLong())).thenReturn(expectedResponses);
+        when(itemRequestService.getUserItemRequests(anyLong(), anyLong(), anyLong(), any())).thenReturn(expectedResponses);
 
         mvc.perform(get("/requests/all?from=0&size=1")
                         .header(xSharerUserId, 1L)
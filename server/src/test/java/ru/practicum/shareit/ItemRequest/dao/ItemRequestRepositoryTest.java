@@ -1,11 +1,17 @@
 package ru.practicum.shareit.ItemRequest.dao;
 
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.item.dao.ItemRepository;
+import ru.practicum.shareit.item.dto.RequestedItemView;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.itemRequest.dto.ItemRequestView;
 import ru.practicum.shareit.itemRequest.dao.ItemRequestRepository;
 import ru.practicum.shareit.itemRequest.model.ItemRequest;
 import ru.practicum.shareit.user.dao.UserRepository;
@@ -13,8 +19,10 @@ import ru.practicum.shareit.user.model.User;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 
 @DataJpaTest
@@ -28,9 +36,11 @@ class ItemRequestRepositoryTest {
     ItemRepository itemRepository;
     @Autowired
     ItemRequestRepository itemRequestRepository;
+    @Autowired
+    TestEntityManager entityManager;
 
     @Test
-    public void findAllByOwner_IdOrderByCreatedDesc_WhenSingleRequestExists_ReturnsSingleRequestInDescendingOrder() {
+    public void findViewsByOwnerId_WhenSingleRequestExists_ReturnsSingleRequestInDescendingOrder() {
         User user = new User();
         user.setName("name");
         user.setEmail("email@mail.ru");
@@ -42,13 +52,13 @@ class ItemRequestRepositoryTest {
         itemRequest.setCreated(LocalDateTime.now());
         itemRequestRepository.save(itemRequest);
 
-        List<ItemRequest> requests = itemRequestRepository.findAllByOwner_IdOrderByCreatedDesc(user.getId());
+        List<ItemRequestView> requests = itemRequestRepository.findViewsByOwnerId(user.getId());
 
-        assertEquals(List.of(itemRequest), requests);
+        assertEquals(List.of(itemRequest.getId()), ids(requests));
     }
 
     @Test
-    public void findAllByOwner_IdOrderByCreatedDesc_WhenMultipleRequestsExist_ReturnsInDescendingOrder() {
+    public void findViewsByOwnerId_WhenMultipleRequestsExist_ReturnsInDescendingOrder() {
         User user = new User();
         user.setName("name");
         user.setEmail("email@mail.ru");
@@ -68,51 +78,213 @@ class ItemRequestRepositoryTest {
         request2.setCreated(now.minusHours(1));
         itemRequestRepository.save(request2);
 
-        List<ItemRequest> requests = itemRequestRepository.findAllByOwner_IdOrderByCreatedDesc(user.getId());
+        List<ItemRequestView> requests = itemRequestRepository.findViewsByOwnerId(user.getId());
 
         assertEquals(2, requests.size());
-        assertEquals(request2, requests.get(0));
-        assertEquals(request1, requests.get(1));
+        assertEquals(request2.getId(), requests.get(0).getId());
+        assertEquals(request1.getId(), requests.get(1).getId());
     }
 
     @Test
-    public void findAllByOwner_IdOrderByCreatedDesc_WhenNoRequestsExist_ReturnsEmptyList() {
+    public void findViewsByOwnerId_WhenNoRequestsExist_ReturnsEmptyList() {
         User user = new User();
         user.setName("name");
         user.setEmail("email@mail.ru");
         userRepository.save(user);
 
-        List<ItemRequest> requests = itemRequestRepository.findAllByOwner_IdOrderByCreatedDesc(user.getId());
+        List<ItemRequestView> requests = itemRequestRepository.findViewsByOwnerId(user.getId());
 
         assertEquals(0, requests.size());
     }
 
     @Test
-    public void findAllByIdGreaterThanOrderByCreatedDesc_WhenRequestsExistWithIdGreaterThan_ReturnsInDescendingOrder() {
+    public void findFeedViews_WhenRequestsOfSeveralUsersExist_ReturnsOtherUsersRequestsInDescendingOrder() {
         User user = new User();
         user.setName("name");
         user.setEmail("email@mail.ru");
         userRepository.save(user);
 
+        User other = new User();
+        other.setName("other");
+        other.setEmail("other@mail.ru");
+        userRepository.save(other);
+
         LocalDateTime now = LocalDateTime.now();
 
         ItemRequest request1 = new ItemRequest();
         request1.setDescription("description1");
-        request1.setOwner(user);
+        request1.setOwner(other);
         request1.setCreated(now.minusHours(2));
         itemRequestRepository.save(request1);
 
+        ItemRequest own = new ItemRequest();
+        own.setDescription("own");
+        own.setOwner(user);
+        own.setCreated(now.minusMinutes(90));
+        itemRequestRepository.save(own);
+
         ItemRequest request2 = new ItemRequest();
         request2.setDescription("description2");
-        request2.setOwner(user);
+        request2.setOwner(other);
         request2.setCreated(now.minusHours(1));
         itemRequestRepository.save(request2);
 
-        List<ItemRequest> requests = itemRequestRepository.findAllByIdGreaterThanOrderByCreatedDesc(0L, Pageable.unpaged());
+        List<ItemRequestView> requests = itemRequestRepository.findFeedViews(user.getId(), Pageable.unpaged());
 
         assertEquals(2, requests.size());
-        assertEquals(request2, requests.get(0));
-        assertEquals(request1, requests.get(1));
+        assertEquals(request2.getId(), requests.get(0).getId());
+        assertEquals(request1.getId(), requests.get(1).getId());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void findFeedViews_WhenOwnRequestsAreNewest_ReturnsFullPage() {
+        User user = new User();
+        user.setName("name");
+        user.setEmail("email@mail.ru");
+        userRepository.save(user);
+
+        User other = new User();
+        other.setName("other");
+        other.setEmail("other@mail.ru");
+        userRepository.save(other);
+
+        LocalDateTime now = LocalDateTime.now();
+
+        ItemRequest request1 = new ItemRequest();
+        request1.setDescription("description1");
+        request1.setOwner(other);
+        request1.setCreated(now.minusHours(3));
+        itemRequestRepository.save(request1);
+
+        ItemRequest request2 = new ItemRequest();
+        request2.setDescription("description2");
+        request2.setOwner(other);
+        request2.setCreated(now.minusHours(2));
+        itemRequestRepository.save(request2);
+
+        ItemRequest own = new ItemRequest();
+        own.setDescription("own");
+        own.setOwner(user);
+        own.setCreated(now);
+        itemRequestRepository.save(own);
+
+        List<ItemRequestView> requests = itemRequestRepository.findFeedViews(user.getId(), PageRequest.of(0, 2));
+
+        assertEquals(List.of(request2.getId(), request1.getId()), ids(requests));
+    }
+
+    @Test
+    public void findFeedViewsBefore_WhenCursorIsSet_ReturnsOlderOtherUsersRequestsInDescendingOrder() {
+        User user = new User();
+        user.setName("name");
+        user.setEmail("email@mail.ru");
+        userRepository.save(user);
+
+        User other = new User();
+        other.setName("other");
+        other.setEmail("other@mail.ru");
+        userRepository.save(other);
+
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+
+        ItemRequest request1 = new ItemRequest();
+        request1.setDescription("description1");
+        request1.setOwner(other);
+        request1.setCreated(now.minusHours(1));
+        itemRequestRepository.save(request1);
+
+        ItemRequest request2 = new ItemRequest();
+        request2.setDescription("description2");
+        request2.setOwner(other);
+        request2.setCreated(now);
+        itemRequestRepository.save(request2);
+
+        ItemRequest own = new ItemRequest();
+        own.setDescription("own");
+        own.setOwner(user);
+        own.setCreated(now);
+        itemRequestRepository.save(own);
+
+        ItemRequest request3 = new ItemRequest();
+        request3.setDescription("description3");
+        request3.setOwner(other);
+        request3.setCreated(now);
+        itemRequestRepository.save(request3);
+
+        List<ItemRequestView> requests = itemRequestRepository.findFeedViewsBefore(user.getId(), request3.getCreated(),
+                request3.getId(), Pageable.unpaged());
+
+        assertEquals(List.of(request2.getId(), request1.getId()), ids(requests));
+    }
+
+    @Test
+    public void findViewsByOwnerId_WhenRequestsHaveItems_ReturnsRequestsAndTheirItems() {
+        User user = new User();
+        user.setName("name");
+        user.setEmail("email@mail.ru");
+        userRepository.save(user);
+
+        ItemRequest older = new ItemRequest();
+        older.setDescription("older");
+        older.setOwner(user);
+        older.setCreated(LocalDateTime.now().minusDays(1));
+        itemRequestRepository.save(older);
+
+        ItemRequest newer = new ItemRequest();
+        newer.setDescription("newer");
+        newer.setOwner(user);
+        newer.setCreated(LocalDateTime.now());
+        itemRequestRepository.save(newer);
+
+        Item item = new Item();
+        item.setName("item");
+        item.setDescription("description");
+        item.setAvailable(true);
+        item.setOwner(user);
+        item.setRequest(older);
+        itemRepository.save(item);
+
+        List<ItemRequestView> requests = itemRequestRepository.findViewsByOwnerId(user.getId());
+        List<RequestedItemView> items = itemRepository.findRequestedItemViews(List.of(older.getId(), newer.getId()));
+
+        assertEquals(2, requests.size());
+        assertEquals("newer", requests.get(0).getDescription());
+        assertEquals(older.getId(), requests.get(1).getId());
+        assertEquals(1, items.size());
+        assertEquals(item.getId(), items.get(0).getId());
+        assertEquals(older.getId(), items.get(0).getRequestId());
+    }
+
+    @Test
+    public void findWithItemsById_WhenRequestHasItems_ReturnsRequestWithItems() {
+        User user = new User();
+        user.setName("name");
+        user.setEmail("email@mail.ru");
+        userRepository.save(user);
+
+        ItemRequest itemRequest = new ItemRequest();
+        itemRequest.setDescription("description");
+        itemRequest.setOwner(user);
+        itemRequest.setCreated(LocalDateTime.now());
+        itemRequestRepository.save(itemRequest);
+
+        Item item = new Item();
+        item.setName("item");
+        item.setDescription("description");
+        item.setAvailable(true);
+        item.setOwner(user);
+        item.setRequest(itemRequest);
+        itemRepository.save(item);
+        entityManager.flush();
+        entityManager.clear();
+
+        ItemRequest found = itemRequestRepository.findWithItemsById(itemRequest.getId()).orElseThrow();
+
+        assertTrue(Hibernate.isInitialized(found.getItems()));
+        assertEquals(List.of(item.getId()), found.getItems().stream().map(Item::getId).collect(Collectors.toList()));
+    }
+
+    private static List<Long> ids(List<ItemRequestView> views) {
+        return views.stream().map(ItemRequestView::getId).collect(Collectors.toList());
+    }
+}
@@ -11,8 +11,6 @@ import ru.practicum.shareit.itemRequest.dto.ItemRequestCreateResponse;
 import ru.practicum.shareit.itemRequest.dto.ItemRequestGetResponse;
 import ru.practicum.shareit.itemRequest.model.ItemRequest;
 
-import java.util.List;
-
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
@@ -72,15 +70,6 @@ class ItemRequestConverterTest {
         assertNull(result);
     }
 
-    @Test
-    void convertToListGetResponse_NullList_ReturnsEmptyList() {
-        List<ItemRequest> itemRequests = null;
-
-        List<ItemRequestGetResponse> result = itemConverter.convertToListGetResponse(itemRequests);
-
-        assertNull(result);
-    }
-
     @Test
     void itemConvertToItemGetItemRequest_NullItem_ReturnsNull() {
         Item item = null;
@@ -6,20 +6,25 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.handler.NotFoundException;
 import ru.practicum.shareit.handler.ValidationException;
+import ru.practicum.shareit.item.dao.ItemRepository;
+import ru.practicum.shareit.item.dto.ItemGetItemResponse;
+import ru.practicum.shareit.item.dto.RequestedItemView;
 import ru.practicum.shareit.itemRequest.dao.ItemRequestRepository;
 import ru.practicum.shareit.itemRequest.dto.ItemRequestConverter;
 import ru.practicum.shareit.itemRequest.dto.ItemRequestCreateRequest;
 import ru.practicum.shareit.itemRequest.dto.ItemRequestCreateResponse;
 import ru.practicum.shareit.itemRequest.dto.ItemRequestGetResponse;
+import ru.practicum.shareit.itemRequest.dto.ItemRequestView;
 import ru.practicum.shareit.itemRequest.model.ItemRequest;
 import ru.practicum.shareit.itemRequest.service.ItemRequestServiceImpl;
-import ru.practicum.shareit.user.dao.UserRepository;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.service.UserServiceImpl;
+import ru.practicum.shareit.utility.Cursor;
 import ru.practicum.shareit.utility.PaginationUtil;
 
-import java.util.ArrayList;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -39,7 +44,7 @@ class ItemRequestServiceImplTest {
     @Mock
     private ItemRequestRepository itemRequestRepository;
     @Mock
-    private UserRepository userRepository;
+    private ItemRepository itemRepository;
 
     @Test
     public void testCreate_SuccessfulCreation_ReturnItemRequestCreateResponse() {
@@ -60,7 +65,7 @@ class ItemRequestServiceImplTest {
         expectedResponse.setId(itemRequest.getId());
         expectedResponse.setDescription(itemRequest.getDescription());
 
-        doNothing().when(userService).checkUserDoesntExistAndThrowIfNotFound(any());
+        when(userService.getExistingUser(userId)).thenReturn(user);
         when(itemRequestConverter.itemRequestCreateRequestConvertToItemRequest(request)).thenReturn(itemRequest);
         when(itemRequestRepository.save(itemRequest)).thenReturn(itemRequest);
         when(itemRequestConverter.itemRequestConvertToItemRequestCreateResponse(itemRequest)).thenReturn(expectedResponse);
@@ -76,7 +81,7 @@ class ItemRequestServiceImplTest {
 
         ItemRequestCreateRequest request = new ItemRequestCreateRequest();
 
-        doNothing().when(userService).checkUserDoesntExistAndThrowIfNotFound(any());
+        when(userService.getExistingUser(userId)).thenReturn(new User());
         assertThrows(ValidationException.class, () -> itemRequestService.create(request, userId));
     }
 
@@ -84,20 +89,25 @@ class ItemRequestServiceImplTest {
     @Test
     public void testGetUserItemRequest_ValidData_ReturnItemRequestGetResponseList() {
         Long userId = 1L;
-        List<ItemRequest> itemRequests = new ArrayList<>();
-        itemRequests.add(new ItemRequest());
-
-        when(itemRequestRepository.findAllByOwner_IdOrderByCreatedDesc(userId)).thenReturn(itemRequests);
-
-        List<ItemRequestGetResponse> expectedResponse = new ArrayList<>();
-        when(itemRequestConverter.convertToListGetResponse(itemRequests)).thenReturn(expectedResponse);
+        ItemRequestView request = mock(ItemRequestView.class);
+        when(request.getId()).thenReturn(10L);
+        ItemRequestView requestWithoutItems = mock(ItemRequestView.class);
+        when(requestWithoutItems.getId()).thenReturn(20L);
+        RequestedItemView item = mock(RequestedItemView.class);
+        when(item.getRequestId()).thenReturn(10L);
+        ItemGetItemResponse itemResponse = new ItemGetItemResponse();
+
+        when(itemRequestRepository.findViewsByOwnerId(userId)).thenReturn(List.of(request, requestWithoutItems));
+        when(itemRepository.findRequestedItemViews(List.of(10L, 20L))).thenReturn(List.of(item));
+        when(itemRequestConverter.viewConvertToGetResponse(any())).thenAnswer(invocation -> new ItemRequestGetResponse());
+        when(itemRequestConverter.requestedItemViewConvertToItemGetItemResponse(item)).thenReturn(itemResponse);
 
         List<ItemRequestGetResponse> actualResponse = itemRequestService.getUserItemRequests(userId);
 
         verify(userService, times(1)).checkUserDoesntExistAndThrowIfNotFound(userId);
-        verify(itemRequestRepository, times(1)).findAllByOwner_IdOrderByCreatedDesc(userId);
-        verify(itemRequestConverter, times(1)).convertToListGetResponse(anyList());
-        assertEquals(actualResponse, expectedResponse);
+        assertEquals(2, actualResponse.size());
+        assertEquals(List.of(itemResponse), actualResponse.get(0).getItems());
+        assertEquals(List.of(), actualResponse.get(1).getItems());
     }
 
     @Test
@@ -105,25 +115,37 @@ class ItemRequestServiceImplTest {
         Long userId = 1L;
         Long from = 0L;
         Long size = 10L;
-        User user = new User();
-        user.setId(1L);
-        ItemRequest request = new ItemRequest();
-        request.setOwner(user);
-        List<ItemRequest> itemRequests = new ArrayList<>();
-        itemRequests.add(request);
+        ItemRequestView request = mock(ItemRequestView.class);
+        when(request.getId()).thenReturn(10L);
+        ItemRequestGetResponse response = new ItemRequestGetResponse();
 
         Pageable pageable = PaginationUtil.getPageable(from, size);
 
-        when(itemRequestRepository.findAllByIdGreaterThanOrderByCreatedDesc(from, pageable)).thenReturn(itemRequests);
+        when(itemRequestRepository.findFeedViews(userId, pageable)).thenReturn(List.of(request));
+        when(itemRepository.findRequestedItemViews(List.of(10L))).thenReturn(List.of());
+        when(itemRequestConverter.viewConvertToGetResponse(request)).thenReturn(response);
 
-        List<ItemRequestGetResponse> expectedResponse = new ArrayList<>();
-        when(itemRequestConverter.convertToListGetResponse(itemRequests)).thenReturn(expectedResponse);
         List<ItemRequestGetResponse> actualResponse = itemRequestService.getUserItemRequests(userId, from, size);
 
         verify(userService, times(1)).checkUserDoesntExistAndThrowIfNotFound(userId);
-        verify(itemRequestRepository, times(1)).findAllByIdGreaterThanOrderByCreatedDesc(from, pageable);
-        verify(itemRequestConverter, times(1)).convertToListGetResponse(anyList());
-        assertEquals(actualResponse, expectedResponse);
+        verify(itemRequestRepository, times(1)).findFeedViews(userId, pageable);
+        assertEquals(List.of(response), actualResponse);
+        assertEquals(List.of(), actualResponse.get(0).getItems());
+    }
+
+    @Test
+    public void testGetUserItemRequests_Cursor_QueriesRequestsBeforeCursor() {
+        Long userId = 1L;
+        Long size = 10L;
+        Cursor cursor = new Cursor(LocalDateTime.of(2024, 1, 1, 12, 0), 5L);
+
+        when(itemRequestRepository.findFeedViewsBefore(userId, cursor.getTime(), cursor.getId(),
+                PaginationUtil.getCursorPageable(size))).thenReturn(List.of());
+
+        List<ItemRequestGetResponse> actualResponse = itemRequestService.getUserItemRequests(userId, null, size, cursor.encode());
+
+        assertEquals(List.of(), actualResponse);
+        verifyNoInteractions(itemRepository);
     }
 
 
@@ -135,7 +157,7 @@ class ItemRequestServiceImplTest {
         ItemRequest itemRequest = new ItemRequest();
         itemRequest.setId(requestId);
 
-        when(itemRequestRepository.findById(requestId)).thenReturn(Optional.of(itemRequest));
+        when(itemRequestRepository.findWithItemsById(requestId)).thenReturn(Optional.of(itemRequest));
 
         ItemRequestGetResponse expectedResponse = new ItemRequestGetResponse();
         when(itemRequestConverter.convertToGetResponse(itemRequest)).thenReturn(expectedResponse);
@@ -143,8 +165,18 @@ class ItemRequestServiceImplTest {
         ItemRequestGetResponse actualResponse = itemRequestService.getRequest(userId, requestId);
 
         verify(userService, times(1)).checkUserDoesntExistAndThrowIfNotFound(userId);
-        verify(itemRequestRepository, times(1)).findById(requestId);
+        verify(itemRequestRepository, times(1)).findWithItemsById(requestId);
         verify(itemRequestConverter, times(1)).convertToGetResponse(itemRequest);
         assertEquals(actualResponse, expectedResponse);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testGetRequest_RequestNotFound_ThrowsNotFoundException() {
+        Long userId = 1L;
+        Long requestId = 1L;
+
+        when(itemRequestRepository.findWithItemsById(requestId)).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class, () -> itemRequestService.getRequest(userId, requestId));
+    }
+}
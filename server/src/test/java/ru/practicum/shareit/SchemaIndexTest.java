@@ -0,0 +1,83 @@
+package ru.practicum.shareit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@JdbcTest
+class SchemaIndexTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void migrations_CreateIndexesForRepositoryQueries() {
+        List<String> indexes = jdbcTemplate.queryForList("SELECT LOWER(INDEX_NAME) FROM INFORMATION_SCHEMA.INDEXES", String.class);
+
+        assertTrue(indexes.containsAll(List.of("idx_bookings_item_start", "idx_bookings_booker_start", "idx_items_owner",
+                "idx_items_request", "idx_comments_item_created", "idx_requests_requester_created",
+                "idx_requests_created_id")));
+    }
+
+    @Test
+    public void lastAndNextBookingQueries_UseItemStartIndex() {
+        String plan = explain("SELECT * FROM bookings WHERE item_id IN (1, 2) AND booking_start < CURRENT_TIMESTAMP");
+
+        assertTrue(plan.contains("IDX_BOOKINGS_ITEM_START"), plan);
+    }
+
+    @Test
+    public void bookerBookingsQuery_UsesIndexScan() {
+        assertIndexScan("SELECT * FROM bookings WHERE user_id = 1 ORDER BY booking_start DESC");
+    }
+
+    @Test
+    public void ownerBookingsQuery_UsesIndexScans() {
+        assertIndexScan("SELECT b.* FROM bookings b JOIN items i ON b.item_id = i.id WHERE i.owner_id = 1 ORDER BY b.booking_start DESC");
+    }
+
+    @Test
+    public void ownerItemsQuery_UsesIndexScan() {
+        assertIndexScan("SELECT * FROM items WHERE owner_id = 1 ORDER BY id");
+    }
+
+    @Test
+    public void requestItemsQuery_UsesIndexScan() {
+        assertIndexScan("SELECT * FROM items WHERE request_id IN (1, 2)");
+    }
+
+    @Test
+    public void itemCommentsQuery_UsesIndexScan() {
+        assertIndexScan("SELECT * FROM comments WHERE item_id IN (1, 2) ORDER BY create_time");
+    }
+
+    @Test
+    public void requesterRequestsQuery_UsesIndexScan() {
+        assertIndexScan("SELECT * FROM requests WHERE requester_id = 1 ORDER BY created DESC");
+    }
+
+    @Test
+    public void otherUsersRequestsFeed_UsesCreatedIdIndex() {
+        String plan = explain("SELECT * FROM requests WHERE requester_id <> 1 AND (created < CURRENT_TIMESTAMP " +
+                "OR (created = CURRENT_TIMESTAMP AND id < 10)) ORDER BY created DESC, id DESC LIMIT 10");
+
+        assertTrue(plan.contains("IDX_REQUESTS_CREATED_ID"), plan);
+    }
+
+    private void assertIndexScan(String query) {
+        String plan = explain(query);
+
+        assertTrue(plan.contains("/* PUBLIC."), plan);
+        assertFalse(plan.contains("tableScan"), plan);
+    }
+
+    private String explain(String query) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + query, String.class);
+    }
+}
@@ -0,0 +1,339 @@
+package ru.practicum.shareit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.booking.dao.BookingRepository;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.item.dao.CommentRepository;
+import ru.practicum.shareit.item.dao.ItemRepository;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.itemRequest.dao.ItemRequestRepository;
+import ru.practicum.shareit.itemRequest.model.ItemRequest;
+import ru.practicum.shareit.user.dao.UserRepository;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static ru.practicum.shareit.utility.ControllerConstants.xSharerUserId;
+import static ru.practicum.shareit.utility.SqlStatementMatchers.sqlStatementsAtMost;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DirtiesContext
+class SqlStatementBudgetTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper mapper;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    ItemRepository itemRepository;
+
+    @Autowired
+    BookingRepository bookingRepository;
+
+    @Autowired
+    CommentRepository commentRepository;
+
+    @Autowired
+    ItemRequestRepository itemRequestRepository;
+
+    @Autowired
+    CacheManager cacheManager;
+
+    private User owner;
+    private User booker;
+    private User requester;
+    private Item item;
+    private ItemRequest request;
+    private Booking pastBooking;
+
+    @BeforeAll
+    void seed() {
+        LocalDateTime now = LocalDateTime.now();
+        owner = saveUser("owner", "owner@mail.ru");
+        booker = saveUser("booker", "booker@mail.ru");
+        requester = saveUser("requester", "requester@mail.ru");
+
+        request = new ItemRequest();
+        request.setDescription("need a drill");
+        request.setCreated(now.minusDays(3));
+        request.setOwner(requester);
+        itemRequestRepository.save(request);
+
+        item = saveItem("saw", null);
+        Item requestedItem = saveItem("drill", request);
+        for (int i = 0; i < 3; i++) {
+            saveItem("ladder " + i, null);
+        }
+
+        pastBooking = saveBooking(item, now.minusDays(2), now.minusDays(1), Status.APPROVED);
+        saveBooking(item, now.plusDays(1), now.plusDays(2), Status.WAITING);
+        saveBooking(requestedItem, now.minusHours(1), now.plusHours(1), Status.APPROVED);
+        saveBooking(requestedItem, now.plusDays(3), now.plusDays(4), Status.REJECTED);
+
+        commentRepository.save(new Comment("great saw", item, booker, now.minusHours(12)));
+    }
+
+    // Budgets are measured against cold caches, the worst case a request can hit in production
+    @BeforeEach
+    void clearCaches() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    public void getUser() throws Exception {
+        mockMvc.perform(get("/users/{userId}", owner.getId()))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatementsAtMost(1));
+    }
+
+    @Test
+    public void getUsers() throws Exception {
+        mockMvc.perform(get("/users"))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatementsAtMost(1));
+    }
+
+    @Test
+    public void createUser() throws Exception {
+        mockMvc.perform(post("/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("name", "new", "email", "new@mail.ru"))))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatementsAtMost(1));
+    }
+
+    @Test
+    public void updateUser() throws Exception {
+        User user = saveUser("to update", "update@mail.ru");
+
+        mockMvc.perform(patch("/users/{userId}", user.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("name", "updated"))))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatementsAtMost(3));
+    }
+
+    @Test
+    public void deleteUser() throws Exception {
+        User user = saveUser("to delete", "delete@mail.ru");
+
+        mockMvc.perform(delete("/users/{userId}", user.getId()))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatementsAtMost(2));
+    }
+
+    @Test
+    public void getItem() throws Exception {
+        mockMvc.perform(get("/items/{itemId}", item.getId())
+                        .header(xSharerUserId, owner.getId()))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatementsAtMost(6));
+    }
+
+    @Test
+    public void getItemAvailability() throws Exception {
+        LocalDateTime from = LocalDateTime.now().minusDays(30);
+
+        mockMvc.perform(get("/items/{itemId}/availability", item.getId())
+                        .param("from", from.toString())
+                        .param("to", from.plusDays(60).toString())
+                        .header(xSharerUserId, booker.getId()))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatementsAtMost(3));
+        mockMvc.perform(get("/items/{itemId}/availability", item.getId())
+                        .param("from", from.plusDays(1).toString())
+                        .param("to", from.plusDays(2).toString())
+                        .header(xSharerUserId, booker.getId()))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatementsAtMost(0));
+    }
+
+    @Test
+    public void getOwnerItems() throws Exception {
+        mockMvc.perform(get("/items")
+                        .header(xSharerUserId, owner.getId()))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatementsAtMost(5));
+    }
+
+    @Test
+    public void searchItems() throws Exception {
+        mockMvc.perform(get("/items/search")
+                        .param("text", "ladder")
+                        .header(xSharerUserId, booker.getId()))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatementsAtMost(1));
+    }
+
+    @Test
+    public void createItem() throws Exception {
+        mockMvc.perform(post("/items")
+                        .header(xSharerUserId, owner.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("name", "tent", "description", "tent", "available", true,
+                                "requestId", request.getId()))))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatementsAtMost(3));
+    }
+
+    @Test
+    public void updateItem() throws Exception {
+        Item toUpdate = saveItem("bike", null);
+
+        mockMvc.perform(patch("/items/{itemId}", toUpdate.getId())
+                        .header(xSharerUserId, owner.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("description", "fast bike"))))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatementsAtMost(3));
+    }
+
+    @Test
+    public void createComment() throws Exception {
+        mockMvc.perform(post("/items/{itemId}/comment", item.getId())
+                        .header(xSharerUserId, booker.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("text", "still great"))))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatementsAtMost(4));
+    }
+
+    @Test
+    public void getBooking() throws Exception {
+        mockMvc.perform(get("/bookings/{bookingId}", pastBooking.getId())
+                        .header(xSharerUserId, booker.getId()))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatementsAtMost(2));
+    }
+
+    @Test
+    public void getBookerBookings() throws Exception {
+        mockMvc.perform(get("/bookings")
+                        .param("state", "ALL")
+                        .header(xSharerUserId, booker.getId()))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatementsAtMost(2));
+    }
+
+    @Test
+    public void getOwnerBookings() throws Exception {
+        mockMvc.perform(get("/bookings/owner")
+                        .param("state", "ALL")
+                        .header(xSharerUserId, owner.getId()))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatementsAtMost(2));
+    }
+
+    @Test
+    public void createBooking() throws Exception {
+        LocalDateTime start = LocalDateTime.now().plusDays(10);
+
+        mockMvc.perform(post("/bookings")
+                        .header(xSharerUserId, booker.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("itemId", item.getId(), "start", start.toString(),
+                                "end", start.plusDays(1).toString()))))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatementsAtMost(5));
+    }
+
+    @Test
+    public void approveBooking() throws Exception {
+        LocalDateTime start = LocalDateTime.now().plusDays(20);
+        Booking booking = saveBooking(item, start, start.plusDays(1), Status.WAITING);
+
+        mockMvc.perform(patch("/bookings/{bookingId}", booking.getId())
+                        .param("approved", "true")
+                        .header(xSharerUserId, owner.getId()))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatementsAtMost(3));
+    }
+
+    @Test
+    public void getOwnRequests() throws Exception {
+        mockMvc.perform(get("/requests")
+                        .header(xSharerUserId, requester.getId()))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatementsAtMost(3));
+    }
+
+    @Test
+    public void getOtherUsersRequests() throws Exception {
+        mockMvc.perform(get("/requests/all")
+                        .header(xSharerUserId, owner.getId()))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatementsAtMost(3));
+    }
+
+    @Test
+    public void getRequest() throws Exception {
+        mockMvc.perform(get("/requests/{requestId}", request.getId())
+                        .header(xSharerUserId, owner.getId()))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatementsAtMost(2));
+    }
+
+    @Test
+    public void createRequest() throws Exception {
+        mockMvc.perform(post("/requests")
+                        .header(xSharerUserId, booker.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("description", "need a kayak"))))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatementsAtMost(2));
+    }
+
+    private User saveUser(String name, String email) {
+        User user = new User();
+        user.setName(name);
+        user.setEmail(email);
+        return userRepository.save(user);
+    }
+
+    private Item saveItem(String name, ItemRequest itemRequest) {
+        Item newItem = new Item();
+        newItem.setName(name);
+        newItem.setDescription(name + " to share");
+        newItem.setAvailable(true);
+        newItem.setOwner(owner);
+        newItem.setRequest(itemRequest);
+        return itemRepository.save(newItem);
+    }
+
+    private Booking saveBooking(Item bookedItem, LocalDateTime start, LocalDateTime end, Status bookingStatus) {
+        Booking booking = new Booking();
+        booking.setItem(bookedItem);
+        booking.setBooker(booker);
+        booking.setStart(start);
+        booking.setEnd(end);
+        booking.setStatus(bookingStatus);
+        return bookingRepository.save(booking);
+    }
+
+    private String json(Object body) throws Exception {
+        return mapper.writeValueAsString(body);
+    }
+}
@@ -12,6 +12,8 @@ import ru.practicum.shareit.booking.dto.BookingCreateRequest;
 import ru.practicum.shareit.booking.dto.BookingCreateResponse;
 import ru.practicum.shareit.booking.dto.BookingGetResponse;
 import ru.practicum.shareit.booking.service.BookingServiceImpl;
+import ru.practicum.shareit.handler.BookingConflictException;
+import ru.practicum.shareit.utility.Cursor;
 
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
@@ -21,7 +23,9 @@ import java.util.List;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static ru.practicum.shareit.utility.ControllerConstants.xNextCursor;
 import static ru.practicum.shareit.utility.ControllerConstants.xSharerUserId;
 
 @WebMvcTest(controllers = BookingController.class)
@@ -55,6 +59,25 @@ class BookingControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    public void testCreate_ItemAlreadyBooked_ReturnsConflict() throws Exception {
+        BookingCreateRequest request = new BookingCreateRequest();
+        request.setItemId(1L);
+        request.setStart(LocalDateTime.now());
+        request.setEnd(LocalDateTime.now());
+
+        when(bookingService.create(any(), anyLong(), anyLong()))
+                .thenThrow(new BookingConflictException("Item is already booked for the requested time"));
+
+        mvc.perform(post("/bookings")
+                        .content(mapper.writeValueAsString(request))
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header(xSharerUserId, 1L)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isConflict());
+    }
+
     @Test
     public void testApproveBooking_ValidData_ReturnBookingApproveResponse() throws Exception {
         BookingApproveResponse response = new BookingApproveResponse();
@@ -88,7 +111,7 @@ class BookingControllerTest {
     public void testGetUserBookings_ValidData_ReturnListOfBookingGetResponse() throws Exception {
         List<BookingGetResponse> expectedResponses = new ArrayList<>();
 
-        when(bookingService.getUserBookings(anyLong(), anyString(), anyLong(), anyLong())).thenReturn(expectedResponses);
+        when(bookingService.getUserBookings(anyLong(), anyString(), anyLong(), anyLong(), any())).thenReturn(expectedResponses);
 
         mvc.perform(get("/bookings")
                         .param("state", "ALL")
@@ -103,7 +126,7 @@ class BookingControllerTest {
     public void testGetOwnerBookings_ValidData_ReturnListOfBookingGetResponse() throws Exception {
         List<BookingGetResponse> expectedResponses = new ArrayList<>();
 
-        when(bookingService.getOwnerBookings(anyLong(), anyString(), anyLong(), anyLong())).thenReturn(expectedResponses);
+        when(bookingService.getOwnerBookings(anyLong(), anyString(), anyLong(), anyLong(), any())).thenReturn(expectedResponses);
 
         mvc.perform(get("/bookings/owner")
                         .param("state", "ALL")
@@ -114,4 +137,22 @@ class BookingControllerTest {
                 .andExpect(status().isOk());
     }
 
-}
\ No newline at end of file
+
+    @Test
+    public void testGetOwnerBookings_FullPage_ReturnsNextCursorHeader() throws Exception {
+        BookingGetResponse booking = new BookingGetResponse();
+        booking.setId(5L);
+        booking.setStart(LocalDateTime.of(2030, 1, 1, 10, 0));
+
+        when(bookingService.getOwnerBookings(anyLong(), anyString(), anyLong(), anyLong(), any())).thenReturn(List.of(booking));
+
+        mvc.perform(get("/bookings/owner")
+                        .param("state", "ALL")
+                        .param("from", "0")
+                        .param("size", "1")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header(xSharerUserId, 1L))
+                .andExpect(status().isOk())
+                .andExpect(header().string(xNextCursor, new Cursor(booking.getStart(), booking.getId()).encode()));
+    }
+}
@@ -1,23 +1,32 @@
 package ru.practicum.shareit.booking.dao;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.booking.dto.BookingView;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.State;
 import ru.practicum.shareit.booking.model.Status;
 import ru.practicum.shareit.item.dao.ItemRepository;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.itemRequest.dao.ItemRequestRepository;
+import ru.practicum.shareit.itemRequest.model.ItemRequest;
 import ru.practicum.shareit.user.dao.UserRepository;
 import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.utility.Cursor;
 
+import javax.persistence.EntityManager;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 class BookingRepositoryTest {
 
     @Autowired
@@ -29,8 +38,14 @@ class BookingRepositoryTest {
     @Autowired
     BookingRepository bookingRepository;
 
+    @Autowired
+    ItemRequestRepository itemRequestRepository;
+
+    @Autowired
+    EntityManager entityManager;
+
     @Test
-    public void findByBooker_IdAndEndBeforeOrderByStartDesc_WhenMultipleBookingsExist_ReturnsInDescendingOrder() {
+    public void findBookingViews_BookerPast_WhenMultipleBookingsExist_ReturnsInDescendingOrder() {
         User user = new User();
         user.setName("name");
         user.setEmail("email@mail.ru");
@@ -57,26 +72,26 @@ class BookingRepositoryTest {
         booking2.setEnd(LocalDateTime.now().minusHours(3));
         bookingRepository.save(booking2);
 
-        List<Booking> bookings = bookingRepository.findByBooker_IdAndEndBeforeOrderByStartDesc(user.getId(), LocalDateTime.now(), Pageable.unpaged());
+        List<BookingView> bookings = bookingRepository.findBookingViews(BookingQuery.forBooker(user.getId(), State.PAST, LocalDateTime.now()), Pageable.unpaged());
 
         assertEquals(2, bookings.size());
         assertTrue(bookings.get(0).getStart().isAfter(bookings.get(1).getStart()));
     }
 
     @Test
-    public void findByBooker_IdAndEndBeforeOrderByStartDesc_WhenNoBookingExists_ReturnsEmptyList() {
+    public void findBookingViews_BookerPast_WhenNoBookingExists_ReturnsEmptyList() {
         User user = new User();
         user.setName("name");
         user.setEmail("email@mail.ru");
         userRepository.save(user);
 
-        List<Booking> bookings = bookingRepository.findByBooker_IdAndEndBeforeOrderByStartDesc(user.getId(), LocalDateTime.now(), Pageable.unpaged());
+        List<BookingView> bookings = bookingRepository.findBookingViews(BookingQuery.forBooker(user.getId(), State.PAST, LocalDateTime.now()), Pageable.unpaged());
 
         assertTrue(bookings.isEmpty());
     }
 
     @Test
-    void findByBooker_IdOrderByStartDesc_WhenMultipleBookingsExist_ReturnsInDescendingOrder() {
+    void findBookingViews_BookerAll_WhenMultipleBookingsExist_ReturnsInDescendingOrder() {
         User user = new User();
         user.setName("name");
         user.setEmail("email@mail.ru");
@@ -104,28 +119,28 @@ class BookingRepositoryTest {
         bookingRepository.save(booking2);
 
         Pageable pageable = Pageable.unpaged();
-        List<Booking> bookings = bookingRepository.findByBooker_IdOrderByStartDesc(user.getId(), pageable);
+        List<BookingView> bookings = bookingRepository.findBookingViews(BookingQuery.forBooker(user.getId(), State.ALL, LocalDateTime.now()), pageable);
 
         assertEquals(2, bookings.size());
         assertTrue(bookings.get(0).getStart().isAfter(bookings.get(1).getStart()));
     }
 
     @Test
-    void findByBooker_IdOrderByStartDesc_WhenNoBookingExists_ReturnsEmptyList() {
+    void findBookingViews_BookerAll_WhenNoBookingExists_ReturnsEmptyList() {
         User user = new User();
         user.setName("name");
         user.setEmail("email@mail.ru");
         userRepository.save(user);
 
         Pageable pageable = Pageable.unpaged();
-        List<Booking> bookings = bookingRepository.findByBooker_IdOrderByStartDesc(user.getId(), pageable);
+        List<BookingView> bookings = bookingRepository.findBookingViews(BookingQuery.forBooker(user.getId(), State.ALL, LocalDateTime.now()), pageable);
 
         assertTrue(bookings.isEmpty());
     }
 
 
     @Test
-    public void findByBooker_IdAndStatusOrderByStartDesc_WhenOneBookingWithStatus_ReturnsOneBooking() {
+    public void findBookingViews_BookerRejected_WhenOneBookingWithStatus_ReturnsOneBooking() {
         User user = new User();
         user.setName("name");
         user.setEmail("email@mail.ru");
@@ -141,19 +156,19 @@ class BookingRepositoryTest {
         Booking booking = new Booking();
         booking.setBooker(user);
         booking.setItem(item);
-        booking.setStatus(Status.APPROVED);
+        booking.setStatus(Status.REJECTED);
         booking.setStart(LocalDateTime.now().minusHours(2));
         booking.setEnd(LocalDateTime.now().minusHours(1));
         bookingRepository.save(booking);
 
-        List<Booking> bookings = bookingRepository.findByBooker_IdAndStatusOrderByStartDesc(user.getId(), Status.APPROVED, Pageable.unpaged());
+        List<BookingView> bookings = bookingRepository.findBookingViews(BookingQuery.forBooker(user.getId(), State.REJECTED, LocalDateTime.now()), Pageable.unpaged());
 
         assertEquals(1, bookings.size());
-        assertEquals(booking, bookings.get(0));
+        assertEquals(booking.getId(), bookings.get(0).getId());
     }
 
     @Test
-    public void findByBooker_IdAndEndIsAfterAndStartBeforeOrderByStartDesc_WhenMultipleBookingsExistWithinTimeRange_ReturnsInDescendingOrder() {
+    public void findBookingViews_BookerCurrent_WhenMultipleCurrentBookingsExist_ReturnsInDescendingOrder() {
         User user = new User();
         user.setName("name");
         user.setEmail("email@mail.ru");
@@ -170,20 +185,24 @@ class BookingRepositoryTest {
         booking1.setBooker(user);
         booking1.setItem(item);
         booking1.setStart(LocalDateTime.now().minusHours(2));
-        booking1.setEnd(LocalDateTime.now().minusHours(1));
+        booking1.setEnd(LocalDateTime.now().plusHours(1));
         bookingRepository.save(booking1);
 
         Booking booking2 = new Booking();
         booking2.setBooker(user);
         booking2.setItem(item);
         booking2.setStart(LocalDateTime.now().minusHours(4));
-        booking2.setEnd(LocalDateTime.now().minusHours(3));
+        booking2.setEnd(LocalDateTime.now().plusHours(3));
         bookingRepository.save(booking2);
 
-        LocalDateTime startBefore = LocalDateTime.now().minusHours(1);
-        LocalDateTime endAfter = LocalDateTime.now().minusHours(5);
+        Booking booking3 = new Booking();
+        booking3.setBooker(user);
+        booking3.setItem(item);
+        booking3.setStart(LocalDateTime.now().minusHours(6));
+        booking3.setEnd(LocalDateTime.now().minusHours(5));
+        bookingRepository.save(booking3);
 
-        List<Booking> bookings = bookingRepository.findByBooker_IdAndEndIsAfterAndStartBeforeOrderByStartDesc(user.getId(), endAfter, startBefore, Pageable.unpaged());
+        List<BookingView> bookings = bookingRepository.findBookingViews(BookingQuery.forBooker(user.getId(), State.CURRENT, LocalDateTime.now()), Pageable.unpaged());
 
         assertEquals(2, bookings.size());
         assertTrue(bookings.get(0).getStart().isAfter(bookings.get(1).getStart()));
@@ -191,7 +210,7 @@ class BookingRepositoryTest {
 
 
     @Test
-    public void findByItem_Owner_IdOrderByStartDesc_WhenBookingsExist_ReturnsBookingsInDescendingOrder() {
+    public void findBookingViews_OwnerAll_WhenBookingsExist_ReturnsBookingsInDescendingOrder() {
         User user = new User();
         user.setName("name");
         user.setEmail("email@mail.ru");
@@ -218,14 +237,98 @@ class BookingRepositoryTest {
         booking2.setEnd(LocalDateTime.now().minusHours(3));
         bookingRepository.save(booking2);
 
-        List<Booking> bookings = bookingRepository.findByItem_Owner_IdOrderByStartDesc(user.getId(), Pageable.unpaged());
+        List<BookingView> bookings = bookingRepository.findBookingViews(BookingQuery.forOwner(user.getId(), State.ALL, LocalDateTime.now()), Pageable.unpaged());
 
         assertEquals(2, bookings.size());
         assertTrue(bookings.get(0).getStart().isAfter(bookings.get(1).getStart()));
     }
 
     @Test
-    public void findByItem_Owner_IdOrderByStartDesc_WhenPageSizeIsSpecified_ReturnsCorrectNumberOfBookings() {
+    public void findBookingViews_WhenSeveralBookingsExist_LoadsItemOwnerAndBookerInOneStatement() {
+        User owner = new User();
+        owner.setName("owner");
+        owner.setEmail("owner@mail.ru");
+        userRepository.save(owner);
+
+        for (int i = 0; i < 3; i++) {
+            User booker = new User();
+            booker.setName("booker" + i);
+            booker.setEmail("booker" + i + "@mail.ru");
+            userRepository.save(booker);
+
+            Item item = new Item();
+            item.setName("item" + i);
+            item.setDescription("description");
+            item.setAvailable(true);
+            item.setOwner(owner);
+            itemRepository.save(item);
+
+            Booking booking = new Booking();
+            booking.setBooker(booker);
+            booking.setItem(item);
+            booking.setStart(LocalDateTime.now().minusHours(i + 1));
+            booking.setEnd(LocalDateTime.now().plusHours(1));
+            bookingRepository.save(booking);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<BookingView> bookings = bookingRepository.findBookingViews(BookingQuery.forOwner(owner.getId(), State.CURRENT, LocalDateTime.now()), Pageable.unpaged());
+        bookings.forEach(booking -> assertNotNull(booking.getBookerName()));
+
+        assertEquals(3, bookings.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void findBookingViews_WhenCursorIsSet_ReturnsOlderBookingsIncludingSameStartWithLowerId() {
+        User user = new User();
+        user.setName("name");
+        user.setEmail("email@mail.ru");
+        userRepository.save(user);
+
+        Item item = new Item();
+        item.setName("item");
+        item.setDescription("description");
+        item.setAvailable(true);
+        item.setOwner(user);
+        itemRepository.save(item);
+
+        LocalDateTime start = LocalDateTime.now().withNano(0);
+
+        Booking booking1 = new Booking();
+        booking1.setBooker(user);
+        booking1.setItem(item);
+        booking1.setStart(start.minusHours(1));
+        booking1.setEnd(start);
+        bookingRepository.save(booking1);
+
+        Booking booking2 = new Booking();
+        booking2.setBooker(user);
+        booking2.setItem(item);
+        booking2.setStart(start);
+        booking2.setEnd(start.plusHours(1));
+        bookingRepository.save(booking2);
+
+        Booking booking3 = new Booking();
+        booking3.setBooker(user);
+        booking3.setItem(item);
+        booking3.setStart(start);
+        booking3.setEnd(start.plusHours(2));
+        bookingRepository.save(booking3);
+
+        Cursor cursor = new Cursor(booking3.getStart(), booking3.getId());
+        List<BookingView> ownerBookings = bookingRepository.findBookingViews(BookingQuery.forOwner(user.getId(), State.ALL, start).after(cursor), Pageable.unpaged());
+        List<BookingView> bookerBookings = bookingRepository.findBookingViews(BookingQuery.forBooker(user.getId(), State.ALL, start).after(cursor), PageRequest.of(0, 1));
+
+        assertEquals(List.of(booking2.getId(), booking1.getId()), ids(ownerBookings));
+        assertEquals(List.of(booking2.getId()), ids(bookerBookings));
+    }
+
+    @Test
+    public void findBookingViews_OwnerAll_WhenPageSizeIsSpecified_ReturnsCorrectNumberOfBookings() {
         User user = new User();
         user.setName("name");
         user.setEmail("email@mail.ru");
@@ -248,13 +351,13 @@ class BookingRepositoryTest {
         }
 
         Pageable pageable = PageRequest.of(0, 10); // Requesting first page with 10 bookings
-        List<Booking> bookings = bookingRepository.findByItem_Owner_IdOrderByStartDesc(user.getId(), pageable);
+        List<BookingView> bookings = bookingRepository.findBookingViews(BookingQuery.forOwner(user.getId(), State.ALL, LocalDateTime.now()), pageable);
 
         assertEquals(10, bookings.size());
     }
 
     @Test
-    public void findByItem_Owner_IdAndEndIsBeforeOrderByStartDesc_WhenNoBookingsBeforeSpecifiedDateTime_ReturnsEmptyList() {
+    public void findBookingViews_OwnerPast_WhenNoBookingsBeforeSpecifiedDateTime_ReturnsEmptyList() {
         User user = new User();
         user.setName("name");
         user.setEmail("email@mail.ru");
@@ -283,13 +386,13 @@ class BookingRepositoryTest {
         booking2.setEnd(LocalDateTime.now().plusHours(3));
         bookingRepository.save(booking2);
 
-        List<Booking> bookings = bookingRepository.findByItem_Owner_IdAndEndIsBeforeOrderByStartDesc(user.getId(), endDateTime, Pageable.unpaged());
+        List<BookingView> bookings = bookingRepository.findBookingViews(BookingQuery.forOwner(user.getId(), State.PAST, endDateTime), Pageable.unpaged());
 
         assertTrue(bookings.isEmpty());
     }
 
     @Test
-    public void findByItem_Owner_IdAndEndAfterAndStartBeforeOrderByStartDesc_WhenBookingsWithinTimeRangeExist_ReturnsBookingsInDescendingOrder() {
+    public void findBookingViews_OwnerCurrent_WhenCurrentBookingsExist_ReturnsBookingsInDescendingOrder() {
         User user = new User();
         user.setName("name");
         user.setEmail("email@mail.ru");
@@ -302,31 +405,35 @@ class BookingRepositoryTest {
         item.setOwner(user);
         itemRepository.save(item);
 
-        LocalDateTime startDateTime = LocalDateTime.now().minusHours(3);
-        LocalDateTime endDateTime = LocalDateTime.now().minusHours(1);
-
         Booking booking1 = new Booking();
         booking1.setBooker(user);
         booking1.setItem(item);
         booking1.setStart(LocalDateTime.now().minusHours(2));
-        booking1.setEnd(LocalDateTime.now().minusHours(1));
+        booking1.setEnd(LocalDateTime.now().plusHours(1));
         bookingRepository.save(booking1);
 
         Booking booking2 = new Booking();
         booking2.setBooker(user);
         booking2.setItem(item);
         booking2.setStart(LocalDateTime.now().minusHours(4));
-        booking2.setEnd(LocalDateTime.now().minusHours(3));
+        booking2.setEnd(LocalDateTime.now().plusHours(3));
         bookingRepository.save(booking2);
 
-        List<Booking> bookings = bookingRepository.findByItem_Owner_IdAndEndAfterAndStartBeforeOrderByStartDesc(user.getId(), startDateTime, endDateTime, Pageable.unpaged());
+        Booking booking3 = new Booking();
+        booking3.setBooker(user);
+        booking3.setItem(item);
+        booking3.setStart(LocalDateTime.now().plusHours(1));
+        booking3.setEnd(LocalDateTime.now().plusHours(2));
+        bookingRepository.save(booking3);
+
+        List<BookingView> bookings = bookingRepository.findBookingViews(BookingQuery.forOwner(user.getId(), State.CURRENT, LocalDateTime.now()), Pageable.unpaged());
 
         assertEquals(2, bookings.size());
         assertTrue(bookings.get(0).getStart().isAfter(bookings.get(1).getStart()));
     }
 
     @Test
-    public void findByItem_Owner_IdAndStatus_WhenBookingsExistWithSpecifiedStatus_ReturnsMatchingBookings() {
+    public void findBookingViews_OwnerWaiting_WhenBookingsExistWithSpecifiedStatus_ReturnsMatchingBookings() {
         User user = new User();
         user.setName("name");
         user.setEmail("email@mail.ru");
@@ -351,14 +458,14 @@ class BookingRepositoryTest {
         booking2.setStatus(Status.WAITING);
         bookingRepository.save(booking2);
 
-        List<Booking> bookings = bookingRepository.findByItem_Owner_IdAndStatus(user.getId(), Status.APPROVED, Pageable.unpaged());
+        List<BookingView> bookings = bookingRepository.findBookingViews(BookingQuery.forOwner(user.getId(), State.WAITING, LocalDateTime.now()), Pageable.unpaged());
 
         assertEquals(1, bookings.size());
-        assertEquals(Status.APPROVED, bookings.get(0).getStatus());
+        assertEquals(Status.WAITING, bookings.get(0).getStatus());
     }
 
     @Test
-    public void findByItem_Owner_IdAndStatus_WhenPageSizeIsSpecified_ReturnsCorrectNumberOfBookings() {
+    public void findBookingViews_OwnerWaiting_WhenPageSizeIsSpecified_ReturnsCorrectNumberOfBookings() {
         User user = new User();
         user.setName("name");
         user.setEmail("email@mail.ru");
@@ -375,72 +482,18 @@ class BookingRepositoryTest {
             Booking booking = new Booking();
             booking.setBooker(user);
             booking.setItem(item);
-            booking.setStatus(Status.APPROVED);
+            booking.setStatus(Status.WAITING);
             bookingRepository.save(booking);
         }
 
         Pageable pageable = PageRequest.of(0, 10);
-        List<Booking> bookings = bookingRepository.findByItem_Owner_IdAndStatus(user.getId(), Status.APPROVED, pageable);
+        List<BookingView> bookings = bookingRepository.findBookingViews(BookingQuery.forOwner(user.getId(), State.WAITING, LocalDateTime.now()), pageable);
 
         assertEquals(10, bookings.size());
     }
 
     @Test
-    public void findByBooker_IdAndStartAfterOrderByStartDesc_WhenBookingsExistAfterSpecifiedDateTime_ReturnsBookingsInDescendingOrder() {
-        User user = new User();
-        user.setName("name");
-        user.setEmail("email@mail.ru");
-        userRepository.save(user);
-
-        LocalDateTime startDateTime = LocalDateTime.now().minusHours(3);
-
-        Booking booking1 = new Booking();
-        booking1.setBooker(user);
-        booking1.setStart(LocalDateTime.now().minusHours(2));
-        booking1.setEnd(LocalDateTime.now().minusHours(1));
-        bookingRepository.save(booking1);
-
-        Booking booking2 = new Booking();
-        booking2.setBooker(user);
-        booking2.setStart(LocalDateTime.now().minusHours(4));
-        booking2.setEnd(LocalDateTime.now().minusHours(3));
-        bookingRepository.save(booking2);
-
-        List<Booking> bookings = bookingRepository.findByBooker_IdAndStartAfterOrderByStartDesc(user.getId(), startDateTime, Pageable.unpaged());
-
-        assertEquals(1, bookings.size());
-        assertEquals(booking1, bookings.get(0));
-    }
-
-    @Test
-    public void findByBooker_IdAndStartAfterOrderByStartDesc_WhenNoBookingsAfterSpecifiedDateTime_ReturnsEmptyList() {
-        User user = new User();
-        user.setName("name");
-        user.setEmail("email@mail.ru");
-        userRepository.save(user);
-
-        LocalDateTime startDateTime = LocalDateTime.now().plusHours(1);
-
-        Booking booking1 = new Booking();
-        booking1.setBooker(user);
-        booking1.setStart(LocalDateTime.now().minusHours(2));
-        booking1.setEnd(LocalDateTime.now().minusHours(1));
-        bookingRepository.save(booking1);
-
-        Booking booking2 = new Booking();
-        booking2.setBooker(user);
-        booking2.setStart(LocalDateTime.now().minusHours(4));
-        booking2.setEnd(LocalDateTime.now().minusHours(3));
-        bookingRepository.save(booking2);
-
-        List<Booking> bookings = bookingRepository.findByBooker_IdAndStartAfterOrderByStartDesc(user.getId(), startDateTime, Pageable.unpaged());
-
-        assertTrue(bookings.isEmpty());
-    }
-
-
-    @Test
-    public void findByItem_Owner_IdAndStartAfterOrderByStartDesc_WhenBookingsExistAfterSpecifiedDateTime_ReturnsBookingsInDescendingOrder() {
+    public void findBookingViews_BookerFuture_WhenBookingsExistAfterSpecifiedDateTime_ReturnsBookingsInDescendingOrder() {
         User user = new User();
         user.setName("name");
         user.setEmail("email@mail.ru");
@@ -469,14 +522,14 @@ class BookingRepositoryTest {
         booking2.setEnd(LocalDateTime.now().minusHours(3));
         bookingRepository.save(booking2);
 
-        List<Booking> bookings = bookingRepository.findByItem_Owner_IdAndStartAfterOrderByStartDesc(user.getId(), startDateTime, Pageable.unpaged());
+        List<BookingView> bookings = bookingRepository.findBookingViews(BookingQuery.forBooker(user.getId(), State.FUTURE, startDateTime), Pageable.unpaged());
 
         assertEquals(1, bookings.size());
-        assertEquals(booking1, bookings.get(0));
+        assertEquals(booking1.getId(), bookings.get(0).getId());
     }
 
     @Test
-    public void findByItem_Owner_IdAndStartAfterOrderByStartDesc_WhenNoBookingsAfterSpecifiedDateTime_ReturnsEmptyList() {
+    public void findBookingViews_BookerFuture_WhenNoBookingsAfterSpecifiedDateTime_ReturnsEmptyList() {
         User user = new User();
         user.setName("name");
         user.setEmail("email@mail.ru");
@@ -505,13 +558,14 @@ class BookingRepositoryTest {
         booking2.setEnd(LocalDateTime.now().minusHours(3));
         bookingRepository.save(booking2);
 
-        List<Booking> bookings = bookingRepository.findByItem_Owner_IdAndStartAfterOrderByStartDesc(user.getId(), startDateTime, Pageable.unpaged());
+        List<BookingView> bookings = bookingRepository.findBookingViews(BookingQuery.forBooker(user.getId(), State.FUTURE, startDateTime), Pageable.unpaged());
 
         assertTrue(bookings.isEmpty());
     }
 
+
     @Test
-    public void findFirstByItemIdAndStartBeforeOrderByStartDesc_WhenBookingExistsBeforeSpecifiedTime_ReturnsBookingWithLatestStartTime() {
+    public void findBookingViews_OwnerFuture_WhenBookingsExistAfterSpecifiedDateTime_ReturnsBookingsInDescendingOrder() {
         User user = new User();
         user.setName("name");
         user.setEmail("email@mail.ru");
@@ -524,7 +578,7 @@ class BookingRepositoryTest {
         item.setOwner(user);
         itemRepository.save(item);
 
-        LocalDateTime time = LocalDateTime.now();
+        LocalDateTime startDateTime = LocalDateTime.now().minusHours(3);
 
         Booking booking1 = new Booking();
         booking1.setBooker(user);
@@ -540,15 +594,14 @@ class BookingRepositoryTest {
         booking2.setEnd(LocalDateTime.now().minusHours(3));
         bookingRepository.save(booking2);
 
-        Booking result = bookingRepository.findFirstByItemIdAndStartBeforeOrderByStartDesc(item.getId(), time);
+        List<BookingView> bookings = bookingRepository.findBookingViews(BookingQuery.forOwner(user.getId(), State.FUTURE, startDateTime), Pageable.unpaged());
 
-        assertNotNull(result);
-        assertEquals(booking1, result);
+        assertEquals(1, bookings.size());
+        assertEquals(booking1.getId(), bookings.get(0).getId());
     }
 
-
     @Test
-    public void findFirstByItemIdAndStartAfterOrderByStartAsc_WhenBookingExistsAfterSpecifiedTime_ReturnsBookingWithEarliestStartTime() {
+    public void findBookingViews_OwnerFuture_WhenNoBookingsAfterSpecifiedDateTime_ReturnsEmptyList() {
         User user = new User();
         user.setName("name");
         user.setEmail("email@mail.ru");
@@ -561,63 +614,99 @@ class BookingRepositoryTest {
         item.setOwner(user);
         itemRepository.save(item);
 
-        LocalDateTime time = LocalDateTime.now().minusHours(1);
+        LocalDateTime startDateTime = LocalDateTime.now().plusHours(1);
 
         Booking booking1 = new Booking();
         booking1.setBooker(user);
         booking1.setItem(item);
-        booking1.setStart(LocalDateTime.now().plusHours(2));
-        booking1.setEnd(LocalDateTime.now().plusHours(3));
+        booking1.setStart(LocalDateTime.now().minusHours(2));
+        booking1.setEnd(LocalDateTime.now().minusHours(1));
         bookingRepository.save(booking1);
 
         Booking booking2 = new Booking();
         booking2.setBooker(user);
         booking2.setItem(item);
-        booking2.setStart(LocalDateTime.now().plusHours(1));
-        booking2.setEnd(LocalDateTime.now().plusHours(2));
+        booking2.setStart(LocalDateTime.now().minusHours(4));
+        booking2.setEnd(LocalDateTime.now().minusHours(3));
         bookingRepository.save(booking2);
 
-        Booking result = bookingRepository.findFirstByItemIdAndStartAfterOrderByStartAsc(item.getId(), time);
+        List<BookingView> bookings = bookingRepository.findBookingViews(BookingQuery.forOwner(user.getId(), State.FUTURE, startDateTime), Pageable.unpaged());
 
-        assertEquals(booking2, result);
+        assertTrue(bookings.isEmpty());
     }
 
     @Test
-    public void findFirstByItemIdAndStartAfterOrderByStartAsc_WhenNoBookingExistsAfterSpecifiedTime_ReturnsNull() {
+    public void findLastAndNextBookingsByItemIds_WhenSeveralItemsHaveBookings_ReturnsOneBookingPerItem() {
         User user = new User();
         user.setName("name");
         user.setEmail("email@mail.ru");
         userRepository.save(user);
 
-        Item item = new Item();
-        item.setName("item");
-        item.setDescription("description");
-        item.setAvailable(true);
-        item.setOwner(user);
-        itemRepository.save(item);
-
-        LocalDateTime time = LocalDateTime.now().plusHours(3); // Specify time to filter bookings
+        Item item1 = new Item();
+        item1.setName("item1");
+        item1.setDescription("description1");
+        item1.setAvailable(true);
+        item1.setOwner(user);
+        itemRepository.save(item1);
 
-        Booking booking1 = new Booking();
-        booking1.setBooker(user);
-        booking1.setItem(item);
-        booking1.setStart(LocalDateTime.now().minusHours(2));
-        booking1.setEnd(LocalDateTime.now().minusHours(1));
-        bookingRepository.save(booking1);
-
-        Booking booking2 = new Booking();
-        booking2.setBooker(user);
-        booking2.setItem(item);
-        booking2.setStart(LocalDateTime.now().minusHours(4));
-        booking2.setEnd(LocalDateTime.now().minusHours(3));
-        bookingRepository.save(booking2);
+        Item item2 = new Item();
+        item2.setName("item2");
+        item2.setDescription("description2");
+        item2.setAvailable(true);
+        item2.setOwner(user);
+        itemRepository.save(item2);
 
-        Booking result = bookingRepository.findFirstByItemIdAndStartAfterOrderByStartAsc(item.getId(), time);
+        LocalDateTime now = LocalDateTime.now();
 
-        assertNull(result);
+        Booking oldBooking = new Booking();
+        oldBooking.setBooker(user);
+        oldBooking.setItem(item1);
+        oldBooking.setStart(now.minusDays(3));
+        oldBooking.setEnd(now.minusDays(2));
+        bookingRepository.save(oldBooking);
+
+        Booking lastBooking = new Booking();
+        lastBooking.setBooker(user);
+        lastBooking.setItem(item1);
+        lastBooking.setStart(now.minusDays(1));
+        lastBooking.setEnd(now.minusHours(1));
+        bookingRepository.save(lastBooking);
+
+        Booking nextBooking = new Booking();
+        nextBooking.setBooker(user);
+        nextBooking.setItem(item1);
+        nextBooking.setStart(now.plusDays(1));
+        nextBooking.setEnd(now.plusDays(2));
+        bookingRepository.save(nextBooking);
+
+        Booking laterBooking = new Booking();
+        laterBooking.setBooker(user);
+        laterBooking.setItem(item1);
+        laterBooking.setStart(now.plusDays(3));
+        laterBooking.setEnd(now.plusDays(4));
+        bookingRepository.save(laterBooking);
+
+        Booking otherItemBooking = new Booking();
+        otherItemBooking.setBooker(user);
+        otherItemBooking.setItem(item2);
+        otherItemBooking.setStart(now.plusHours(5));
+        otherItemBooking.setEnd(now.plusHours(6));
+        bookingRepository.save(otherItemBooking);
+
+        List<Long> itemIds = List.of(item1.getId(), item2.getId());
+        List<BookingView> last = bookingRepository.findLastBookingsByItemIds(itemIds, now);
+        List<BookingView> next = bookingRepository.findNextBookingsByItemIds(itemIds, now);
+
+        assertEquals(1, last.size());
+        assertEquals(lastBooking.getId(), last.get(0).getId());
+        assertEquals(item1.getId(), last.get(0).getItemId());
+        assertEquals(user.getId(), last.get(0).getOwnerId());
+        assertEquals(user.getId(), last.get(0).getBookerId());
+        assertEquals(2, next.size());
+        assertTrue(next.stream().anyMatch(booking -> booking.getId().equals(nextBooking.getId())));
+        assertTrue(next.stream().anyMatch(booking -> booking.getId().equals(otherItemBooking.getId())));
     }
 
-
     @Test
     public void existsBookingByItemId_WhenBookingExistsForItemId_ReturnsTrue() {
         // Setup
@@ -709,4 +798,110 @@ class BookingRepositoryTest {
         assertFalse(result);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void findBookingViews_WhenItemsWithAndWithoutRequest_ReturnsFlatRowsInDescendingOrder() {
+        User owner = new User();
+        owner.setName("owner");
+        owner.setEmail("owner@mail.ru");
+        userRepository.save(owner);
+
+        User booker = new User();
+        booker.setName("booker");
+        booker.setEmail("booker@mail.ru");
+        userRepository.save(booker);
+
+        ItemRequest request = new ItemRequest();
+        request.setDescription("need a drill");
+        request.setCreated(LocalDateTime.now().minusDays(1));
+        request.setOwner(booker);
+        itemRequestRepository.save(request);
+
+        Item requestedItem = new Item();
+        requestedItem.setName("drill");
+        requestedItem.setDescription("description");
+        requestedItem.setAvailable(true);
+        requestedItem.setOwner(owner);
+        requestedItem.setRequest(request);
+        itemRepository.save(requestedItem);
+
+        Item item = new Item();
+        item.setName("saw");
+        item.setDescription("description");
+        item.setAvailable(true);
+        item.setOwner(owner);
+        itemRepository.save(item);
+
+        Booking older = new Booking();
+        older.setBooker(booker);
+        older.setItem(requestedItem);
+        older.setStatus(Status.APPROVED);
+        older.setStart(LocalDateTime.now().minusDays(2));
+        older.setEnd(LocalDateTime.now().minusDays(1));
+        bookingRepository.save(older);
+
+        Booking newer = new Booking();
+        newer.setBooker(booker);
+        newer.setItem(item);
+        newer.setStatus(Status.WAITING);
+        newer.setStart(LocalDateTime.now().plusDays(1));
+        newer.setEnd(LocalDateTime.now().plusDays(2));
+        bookingRepository.save(newer);
+
+        List<BookingView> views = bookingRepository.findBookingViews(BookingQuery.forOwner(owner.getId(), State.ALL, LocalDateTime.now()), Pageable.unpaged());
+
+        assertEquals(2, views.size());
+        assertEquals(newer.getId(), views.get(0).getId());
+        assertEquals("saw", views.get(0).getItemName());
+        assertNull(views.get(0).getRequestId());
+        assertEquals(older.getId(), views.get(1).getId());
+        assertEquals(Status.APPROVED, views.get(1).getStatus());
+        assertEquals(owner.getEmail(), views.get(1).getOwnerEmail());
+        assertEquals(request.getId(), views.get(1).getRequestId());
+        assertEquals("need a drill", views.get(1).getRequestDescription());
+        assertEquals(booker.getName(), views.get(1).getBookerName());
+    }
+
+    @Test
+    public void existsOverlapping_OnlyActiveBookingsThatIntersectTheRangeCount() {
+        User user = new User();
+        user.setName("name");
+        user.setEmail("email@mail.ru");
+        userRepository.save(user);
+
+        Item item = new Item();
+        item.setName("item");
+        item.setDescription("description");
+        item.setAvailable(true);
+        item.setOwner(user);
+        itemRepository.save(item);
+
+        LocalDateTime start = LocalDateTime.now().plusDays(1).withNano(0);
+
+        Booking waiting = new Booking();
+        waiting.setBooker(user);
+        waiting.setItem(item);
+        waiting.setStart(start);
+        waiting.setEnd(start.plusHours(2));
+        waiting.setStatus(Status.WAITING);
+        bookingRepository.save(waiting);
+
+        Booking rejected = new Booking();
+        rejected.setBooker(user);
+        rejected.setItem(item);
+        rejected.setStart(start.plusHours(4));
+        rejected.setEnd(start.plusHours(6));
+        rejected.setStatus(Status.REJECTED);
+        bookingRepository.save(rejected);
+
+        List<Status> active = List.of(Status.WAITING, Status.APPROVED);
+
+        assertTrue(bookingRepository.existsOverlapping(item.getId(), start.plusHours(1), start.plusHours(3), active));
+        assertFalse(bookingRepository.existsOverlapping(item.getId(), start.plusHours(2), start.plusHours(3), active));
+        assertFalse(bookingRepository.existsOverlapping(item.getId(), start.plusHours(4), start.plusHours(5), active));
+        assertFalse(bookingRepository.existsOverlapping(item.getId() + 1, start, start.plusHours(2), active));
+    }
+
+    private static List<Long> ids(List<BookingView> views) {
+        return views.stream().map(BookingView::getId).collect(Collectors.toList());
+    }
+}
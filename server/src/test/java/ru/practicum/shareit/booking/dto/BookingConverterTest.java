@@ -4,6 +4,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.Status;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.user.model.User;
 
@@ -13,6 +14,7 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 @SpringBootTest
 public class BookingConverterTest {
@@ -31,6 +33,24 @@ public class BookingConverterTest {
         assertEquals(user.getId(), response.getBookerId());
     }
 
+    @Test
+    public void testBookingViewConvertToBookingResponse_WithRequest_BuildsItemAndBooker() {
+        LocalDateTime start = LocalDateTime.now();
+        BookingView view = new BookingView(1L, start, start.plusHours(1), Status.APPROVED,
+                2L, "item", "description", true, 3L, "owner", "owner@mail.ru", 5L, "request", start,
+                4L, "booker", "booker@mail.ru");
+
+        BookingResponse response = converter.bookingViewConvertToBookingResponse(view);
+
+        assertEquals(1L, response.getId());
+        assertEquals(Status.APPROVED, response.getStatus());
+        assertEquals(2L, response.getItem().getId());
+        assertEquals(3L, response.getItem().getOwner().getId());
+        assertEquals(5L, response.getItem().getRequest().getId());
+        assertEquals(4L, response.getBooker().getId());
+        assertEquals(4L, response.getBookerId());
+    }
+
     @Test
     public void testBookingCreateRequestConvertToBooking_ValidRequest_ReturnsBooking() {
         BookingCreateRequest request = new BookingCreateRequest();
@@ -164,7 +184,24 @@ public class BookingConverterTest {
         assertEquals(booking2.getItem(), responses.get(1).getItem());
         assertEquals(booking2.getBooker(), responses.get(1).getBooker());
     }
-}
-
-
 
+    @Test
+    public void testBookingViewConvertToBookingGetResponse_WithoutRequest_BuildsItemAndBooker() {
+        LocalDateTime start = LocalDateTime.now();
+        BookingView view = new BookingView(1L, start, start.plusHours(1), Status.WAITING,
+                2L, "item", "description", true, 3L, "owner", "owner@mail.ru", null, null, null,
+                4L, "booker", "booker@mail.ru");
+
+        BookingGetResponse response = converter.bookingViewConvertToBookingGetResponse(view);
+
+        assertEquals(1L, response.getId());
+        assertEquals(start, response.getStart());
+        assertEquals(Status.WAITING, response.getStatus());
+        assertEquals(2L, response.getItem().getId());
+        assertEquals("item", response.getItem().getName());
+        assertEquals(3L, response.getItem().getOwner().getId());
+        assertNull(response.getItem().getRequest());
+        assertEquals(4L, response.getBooker().getId());
+        assertEquals("booker@mail.ru", response.getBooker().getEmail());
+    }
+}
@@ -1,13 +1,38 @@
 package ru.practicum.shareit.booking.service;
 
+import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.booking.dao.BookingRepository;
+import ru.practicum.shareit.booking.dto.BookingCreateRequest;
+import ru.practicum.shareit.handler.BookingConflictException;
+import ru.practicum.shareit.handler.ValidationException;
+import ru.practicum.shareit.item.dto.AvailabilityInterval;
+import ru.practicum.shareit.item.dto.ItemCreateRequest;
 import ru.practicum.shareit.item.service.ItemServiceImpl;
 import ru.practicum.shareit.itemRequest.service.ItemRequestServiceImpl;
+import ru.practicum.shareit.user.dto.UserCreateRequest;
 import ru.practicum.shareit.user.service.UserServiceImpl;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 @SpringBootTest
 class BookingServiceImplIntegrationTest {
+    private static final int concurrentBookers = 8;
 
     @Autowired
     BookingServiceImpl bookingService;
@@ -21,4 +46,145 @@ class BookingServiceImplIntegrationTest {
     @Autowired
     ItemServiceImpl itemService;
 
-}
\ No newline at end of file
+    @Autowired
+    BookingRepository bookingRepository;
+
+    @Test
+    @DirtiesContext
+    public void testCreate_OverlappingBooking_ThrowsConflictException() {
+        Long ownerId = createUser("owner@mail.ru");
+        Long bookerId = createUser("booker@mail.ru");
+        Long itemId = createItem(ownerId);
+        LocalDateTime start = LocalDateTime.now().plusDays(1).withNano(0);
+
+        bookingService.create(booking(itemId, start, start.plusHours(2)), itemId, bookerId);
+
+        assertThrows(BookingConflictException.class,
+                () -> bookingService.create(booking(itemId, start.plusHours(1), start.plusHours(3)), itemId, bookerId));
+        bookingService.create(booking(itemId, start.plusHours(2), start.plusHours(3)), itemId, bookerId);
+    }
+
+    @Test
+    @DirtiesContext
+    public void testCreate_ConcurrentOverlappingBookings_OnlyOneSucceeds() throws Exception {
+        Long ownerId = createUser("owner@mail.ru");
+        Long itemId = createItem(ownerId);
+        LocalDateTime start = LocalDateTime.now().plusDays(1).withNano(0);
+
+        List<Long> bookerIds = new ArrayList<>();
+        for (int i = 0; i < concurrentBookers; i++) {
+            bookerIds.add(createUser("booker" + i + "@mail.ru"));
+        }
+
+        CountDownLatch ready = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(concurrentBookers);
+        List<Future<?>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < concurrentBookers; i++) {
+                Long bookerId = bookerIds.get(i);
+                LocalDateTime shift = start.plusMinutes(i);
+                results.add(executor.submit((Callable<Object>) () -> {
+                    ready.await();
+                    return bookingService.create(booking(itemId, shift, shift.plusHours(1)), itemId, bookerId);
+                }));
+            }
+            ready.countDown();
+
+            int created = 0;
+            for (Future<?> result : results) {
+                try {
+                    result.get();
+                    created++;
+                } catch (ExecutionException e) {
+                    assertInstanceOf(BookingConflictException.class, e.getCause());
+                }
+            }
+            assertEquals(1, created);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DirtiesContext
+    public void testAvailability_AfterCreateAndReject_ReflectsCurrentBookings() {
+        Long ownerId = createUser("owner@mail.ru");
+        Long bookerId = createUser("booker@mail.ru");
+        Long itemId = createItem(ownerId);
+        LocalDateTime start = LocalDateTime.now().plusDays(1).withNano(0);
+        LocalDateTime from = start.minusHours(1);
+        LocalDateTime to = start.plusHours(3);
+
+        assertEquals(List.of(), itemService.getAvailability(itemId, bookerId, from, to).getBusy());
+
+        Long bookingId = bookingService.create(booking(itemId, start, start.plusHours(2)), itemId, bookerId).getId();
+        assertEquals(List.of(new AvailabilityInterval(start, start.plusHours(2))),
+                itemService.getAvailability(itemId, bookerId, from, to).getBusy());
+
+        bookingService.approve(bookingId, ownerId, false);
+        assertEquals(List.of(new AvailabilityInterval(from, to)),
+                itemService.getAvailability(itemId, bookerId, from, to).getFree());
+    }
+
+    @Test
+    @DirtiesContext
+    public void testApprove_ConcurrentApproveAndReject_OnlyOneTransitionWins() throws Exception {
+        Long ownerId = createUser("owner@mail.ru");
+        Long bookerId = createUser("booker@mail.ru");
+        Long itemId = createItem(ownerId);
+        LocalDateTime start = LocalDateTime.now().plusDays(1).withNano(0);
+        Long bookingId = bookingService.create(booking(itemId, start, start.plusHours(1)), itemId, bookerId).getId();
+
+        CountDownLatch ready = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(concurrentBookers);
+        List<Future<?>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < concurrentBookers; i++) {
+                boolean approved = i % 2 == 0;
+                results.add(executor.submit((Callable<Object>) () -> {
+                    ready.await();
+                    return bookingService.approve(bookingId, ownerId, approved);
+                }));
+            }
+            ready.countDown();
+
+            int changed = 0;
+            for (Future<?> result : results) {
+                try {
+                    result.get();
+                    changed++;
+                } catch (ExecutionException e) {
+                    assertTrue(e.getCause() instanceof BookingConflictException || e.getCause() instanceof ValidationException,
+                            e.getCause().toString());
+                }
+            }
+            assertEquals(1, changed);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1L, bookingRepository.findById(bookingId).orElseThrow().getVersion());
+    }
+
+    private Long createUser(String email) {
+        UserCreateRequest request = new UserCreateRequest();
+        request.setName("name");
+        request.setEmail(email);
+        return userService.create(request).getId();
+    }
+
+    private Long createItem(Long ownerId) {
+        ItemCreateRequest request = new ItemCreateRequest();
+        request.setName("item");
+        request.setDescription("description");
+        request.setAvailable(true);
+        return itemService.create(request, ownerId).getId();
+    }
+
+    private static BookingCreateRequest booking(Long itemId, LocalDateTime start, LocalDateTime end) {
+        BookingCreateRequest request = new BookingCreateRequest();
+        request.setItemId(itemId);
+        request.setStart(start);
+        request.setEnd(end);
+        return request;
+    }
+}
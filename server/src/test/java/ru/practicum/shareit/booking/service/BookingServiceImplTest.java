@@ -5,23 +5,31 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.booking.dao.BookingQuery;
 import ru.practicum.shareit.booking.dao.BookingRepository;
 import ru.practicum.shareit.booking.dto.BookingApproveResponse;
 import ru.practicum.shareit.booking.dto.BookingConverter;
 import ru.practicum.shareit.booking.dto.BookingCreateRequest;
 import ru.practicum.shareit.booking.dto.BookingGetResponse;
+import ru.practicum.shareit.booking.dto.BookingView;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.State;
 import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.handler.BookingConflictException;
 import ru.practicum.shareit.handler.InternalServerException;
 import ru.practicum.shareit.handler.NotFoundException;
 import ru.practicum.shareit.handler.ValidationException;
+import ru.practicum.shareit.item.availability.ItemAvailabilityCalendar;
 import ru.practicum.shareit.item.dao.ItemRepository;
 import ru.practicum.shareit.item.model.Item;
-import ru.practicum.shareit.user.dao.UserRepository;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.service.UserService;
+import ru.practicum.shareit.utility.Cursor;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
@@ -29,6 +37,7 @@ import java.util.NoSuchElementException;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -42,8 +51,6 @@ class BookingServiceImplTest {
     @Mock
     private ItemRepository itemRepository;
 
-    @Mock
-    private UserRepository userRepository;
 
     @Mock
     private BookingConverter converter;
@@ -51,6 +58,9 @@ class BookingServiceImplTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private ItemAvailabilityCalendar availabilityCalendar;
+
     @InjectMocks
     private BookingServiceImpl bookingService;
 
@@ -63,7 +73,7 @@ class BookingServiceImplTest {
         Booking booking = new Booking();
         booking.setStart(request.getStart());
         booking.setEnd(request.getEnd());
-        doNothing().when(userService).checkUserDoesntExistAndThrowIfNotFound(any());
+        when(userService.getExistingUser(any())).thenReturn(new User());
         when(converter.bookingCreateRequestConvertToBooking(request)).thenReturn(booking);
 
         assertThrows(ValidationException.class, () -> bookingService.create(request, 1L, 1L));
@@ -82,8 +92,8 @@ class BookingServiceImplTest {
         booking.setStart(request.getStart());
         booking.setEnd(request.getEnd());
 
-        doNothing().when(userService).checkUserDoesntExistAndThrowIfNotFound(any());
-        when(itemRepository.findById(anyLong())).thenReturn(Optional.of(item));
+        when(userService.getExistingUser(any())).thenReturn(new User());
+        when(itemRepository.findForUpdateById(anyLong())).thenReturn(Optional.of(item));
         when(converter.bookingCreateRequestConvertToBooking(request)).thenReturn(booking);
 
         assertThrows(ValidationException.class, () -> bookingService.create(request, 1L, 1L));
@@ -102,8 +112,8 @@ class BookingServiceImplTest {
         booking.setStart(request.getStart());
         booking.setEnd(request.getEnd());
 
-        doNothing().when(userService).checkUserDoesntExistAndThrowIfNotFound(any());
-        when(itemRepository.findById(anyLong())).thenThrow(NoSuchElementException.class);
+        when(userService.getExistingUser(any())).thenReturn(new User());
+        when(itemRepository.findForUpdateById(anyLong())).thenThrow(NoSuchElementException.class);
         when(converter.bookingCreateRequestConvertToBooking(request)).thenReturn(booking);
 
         assertThrows(NoSuchElementException.class, () -> bookingService.create(request, 1L, 1L));
@@ -128,14 +138,101 @@ class BookingServiceImplTest {
         booking.setEnd(request.getEnd());
         booking.setItem(item);
 
-        when(itemRepository.findById(1L)).thenReturn(Optional.of(item));
+        when(itemRepository.findForUpdateById(1L)).thenReturn(Optional.of(item));
         when(converter.bookingCreateRequestConvertToBooking(request)).thenReturn(booking);
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
-        doNothing().when(userService).checkUserDoesntExistAndThrowIfNotFound(any());
+        when(userService.getExistingUser(anyLong())).thenReturn(user);
 
         assertThrows(NotFoundException.class, () -> bookingService.create(request, 1L, 1L));
     }
 
+    @Test
+    public void testCreate_OverlappingBookingExists_ThrowsConflictException() {
+        User owner = new User();
+        owner.setId(2L);
+
+        BookingCreateRequest request = new BookingCreateRequest();
+        request.setStart(LocalDateTime.now().plusHours(1));
+        request.setEnd(LocalDateTime.now().plusHours(2));
+
+        Item item = new Item();
+        item.setId(1L);
+        item.setOwner(owner);
+        item.setAvailable(true);
+
+        Booking booking = new Booking();
+        booking.setStart(request.getStart());
+        booking.setEnd(request.getEnd());
+
+        when(userService.getExistingUser(1L)).thenReturn(new User());
+        when(converter.bookingCreateRequestConvertToBooking(request)).thenReturn(booking);
+        when(itemRepository.findForUpdateById(1L)).thenReturn(Optional.of(item));
+        when(bookingRepository.existsOverlapping(eq(1L), eq(booking.getStart()), eq(booking.getEnd()), anyCollection()))
+                .thenReturn(true);
+
+        assertThrows(BookingConflictException.class, () -> bookingService.create(request, 1L, 1L));
+        verify(bookingRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    public void testCreate_OverlapConstraintViolated_ThrowsConflictException() {
+        User owner = new User();
+        owner.setId(2L);
+
+        BookingCreateRequest request = new BookingCreateRequest();
+        request.setStart(LocalDateTime.now().plusHours(1));
+        request.setEnd(LocalDateTime.now().plusHours(2));
+
+        Item item = new Item();
+        item.setId(1L);
+        item.setOwner(owner);
+        item.setAvailable(true);
+
+        Booking booking = new Booking();
+        booking.setStart(request.getStart());
+        booking.setEnd(request.getEnd());
+
+        when(userService.getExistingUser(1L)).thenReturn(new User());
+        when(converter.bookingCreateRequestConvertToBooking(request)).thenReturn(booking);
+        when(itemRepository.findForUpdateById(1L)).thenReturn(Optional.of(item));
+        when(bookingRepository.existsOverlapping(eq(1L), eq(booking.getStart()), eq(booking.getEnd()), anyCollection()))
+                .thenReturn(false);
+        when(bookingRepository.saveAndFlush(booking)).thenThrow(new DataIntegrityViolationException("could not execute statement",
+                new SQLException("conflicting key value violates exclusion constraint \"bookings_item_no_overlap\"", "23P01")));
+
+        assertThrows(BookingConflictException.class, () -> bookingService.create(request, 1L, 1L));
+    }
+
+    @Test
+    public void testCreate_OtherIntegrityViolation_IsRethrown() {
+        User owner = new User();
+        owner.setId(2L);
+
+        BookingCreateRequest request = new BookingCreateRequest();
+        request.setStart(LocalDateTime.now().plusHours(1));
+        request.setEnd(LocalDateTime.now().plusHours(2));
+
+        Item item = new Item();
+        item.setId(1L);
+        item.setOwner(owner);
+        item.setAvailable(true);
+
+        Booking booking = new Booking();
+        booking.setStart(request.getStart());
+        booking.setEnd(request.getEnd());
+
+        when(userService.getExistingUser(1L)).thenReturn(new User());
+        when(converter.bookingCreateRequestConvertToBooking(request)).thenReturn(booking);
+        when(itemRepository.findForUpdateById(1L)).thenReturn(Optional.of(item));
+        when(bookingRepository.existsOverlapping(eq(1L), eq(booking.getStart()), eq(booking.getEnd()), anyCollection()))
+                .thenReturn(false);
+        DataIntegrityViolationException foreignKeyViolation = new DataIntegrityViolationException("could not execute statement",
+                new SQLException("insert or update on table \"bookings\" violates foreign key constraint", "23503"));
+        when(bookingRepository.saveAndFlush(booking)).thenThrow(foreignKeyViolation);
+
+        assertSame(foreignKeyViolation, assertThrows(DataIntegrityViolationException.class,
+                () -> bookingService.create(request, 1L, 1L)));
+    }
+
     @Test
     public void testApprove_BookingAlreadyApproved_ThrowsValidationException() {
         User user = new User();
@@ -151,7 +248,6 @@ class BookingServiceImplTest {
 
         booking.setItem(item);
 
-        doNothing().when(userService).checkUserDoesntExistAndThrowIfNotFound(any());
         when(bookingRepository.findById(1L)).thenReturn(Optional.of(booking));
 
         assertThrows(ValidationException.class, () -> bookingService.approve(1L, 1L, true));
@@ -164,6 +260,7 @@ class BookingServiceImplTest {
 
         Booking booking = new Booking();
         booking.setBooker(user);
+        booking.setVersion(0L);
         booking.setStatus(Status.WAITING);
 
         Item item = new Item();
@@ -177,14 +274,96 @@ class BookingServiceImplTest {
         expectedResponse.setBooker(booking.getBooker());
         expectedResponse.setItem(booking.getItem());
 
-        doNothing().when(userService).checkUserDoesntExistAndThrowIfNotFound(any());
         when(bookingRepository.findById(1L)).thenReturn(Optional.of(booking));
-        when(bookingRepository.save(booking)).thenReturn(booking);
+        when(bookingRepository.updateStatus(1L, 0L, Status.APPROVED)).thenReturn(1);
         when(converter.bookingConvertToBookingApproveResponse(booking)).thenReturn(expectedResponse);
 
         BookingApproveResponse actualResponse = bookingService.approve(1L, 1L, true);
 
         assertEquals(expectedResponse, actualResponse);
+        assertEquals(Status.APPROVED, booking.getStatus());
+        verify(bookingRepository, never()).save(any());
+    }
+
+    @Test
+    public void testApprove_OwnerMatches_SkipsUserLookup() {
+        User user = new User();
+        user.setId(1L);
+
+        Item item = new Item();
+        item.setOwner(user);
+
+        Booking booking = new Booking();
+        booking.setBooker(user);
+        booking.setStatus(Status.WAITING);
+        booking.setVersion(0L);
+        booking.setItem(item);
+
+        when(bookingRepository.findById(1L)).thenReturn(Optional.of(booking));
+        when(bookingRepository.updateStatus(1L, 0L, Status.APPROVED)).thenReturn(1);
+
+        bookingService.approve(1L, 1L, true);
+
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    public void testApprove_UnknownUser_ThrowsUserNotFound() {
+        User owner = new User();
+        owner.setId(1L);
+
+        Item item = new Item();
+        item.setOwner(owner);
+
+        Booking booking = new Booking();
+        booking.setStatus(Status.WAITING);
+        booking.setItem(item);
+
+        when(bookingRepository.findById(1L)).thenReturn(Optional.of(booking));
+        doThrow(new NotFoundException("User not found with ID: 2")).when(userService).checkUserDoesntExistAndThrowIfNotFound(2L);
+
+        NotFoundException exception = assertThrows(NotFoundException.class, () -> bookingService.approve(1L, 2L, true));
+        assertEquals("User not found with ID: 2", exception.getMessage());
+    }
+
+    @Test
+    public void testApprove_BookingAlreadyRejected_ThrowsValidationException() {
+        User user = new User();
+        user.setId(1L);
+
+        Item item = new Item();
+        item.setOwner(user);
+
+        Booking booking = new Booking();
+        booking.setBooker(user);
+        booking.setStatus(Status.REJECTED);
+        booking.setItem(item);
+
+        when(bookingRepository.findById(1L)).thenReturn(Optional.of(booking));
+
+        assertThrows(ValidationException.class, () -> bookingService.approve(1L, 1L, true));
+        verify(bookingRepository, never()).updateStatus(any(), any(), any());
+    }
+
+    @Test
+    public void testApprove_StatusChangedConcurrently_ThrowsConflictException() {
+        User user = new User();
+        user.setId(1L);
+
+        Item item = new Item();
+        item.setOwner(user);
+
+        Booking booking = new Booking();
+        booking.setBooker(user);
+        booking.setStatus(Status.WAITING);
+        booking.setVersion(0L);
+        booking.setItem(item);
+
+        when(bookingRepository.findById(1L)).thenReturn(Optional.of(booking));
+        when(bookingRepository.updateStatus(1L, 0L, Status.REJECTED)).thenReturn(0);
+
+        assertThrows(BookingConflictException.class, () -> bookingService.approve(1L, 1L, false));
+        verify(converter, never()).bookingConvertToBookingApproveResponse(any());
     }
 
 
@@ -245,6 +424,20 @@ class BookingServiceImplTest {
         assertThrows(NotFoundException.class, () -> bookingService.get(bookingId, userId));
     }
 
+    @Test
+    public void testGetOwnerBookings_Cursor_PassesCursorToQuery() {
+        Cursor cursor = new Cursor(LocalDateTime.now(), 1L);
+        List<BookingView> bookings = List.of(bookingView());
+        List<BookingGetResponse> expected = List.of(new BookingGetResponse());
+
+        doNothing().when(userService).checkUserDoesntExistAndThrowIfNotFound(any());
+        when(bookingRepository.findBookingViews(argThat(query -> cursor.equals(query.getCursor())
+                && query.getState() == State.PAST), eq(PageRequest.of(0, 10)))).thenReturn(bookings);
+        when(converter.bookingViewConvertToBookingGetResponse(bookings)).thenReturn(expected);
+
+        assertEquals(expected, bookingService.getOwnerBookings(1L, "PAST", 0L, 10L, cursor.encode()));
+    }
+
     @Test
     public void testGetOwnerBookings_InvalidFromAndSize_ThrowValidationException() {
         assertThrows(ValidationException.class, () -> bookingService.getOwnerBookings(1L, "str", -1L, -1L));
@@ -261,19 +454,19 @@ class BookingServiceImplTest {
         String stateStr = "ALL";
         Long from = 0L;
         Long size = 10L;
-        List<Booking> allBookings = Arrays.asList(new Booking(), new Booking());
+        List<BookingView> allBookings = Arrays.asList(bookingView(), bookingView());
         List<BookingGetResponse> expectedAllResponses = Arrays.asList(new BookingGetResponse(), new BookingGetResponse());
 
         doNothing().when(userService).checkUserDoesntExistAndThrowIfNotFound(any());
-        when(bookingRepository.findByItem_Owner_IdOrderByStartDesc(eq(ownerId), any(Pageable.class))).thenReturn(allBookings);
-        when(converter.bookingConvertToBookingGetResponse(allBookings)).thenReturn(expectedAllResponses);
+        when(bookingRepository.findBookingViews(queryFor(BookingQuery.Role.OWNER, ownerId, State.ALL), any(Pageable.class))).thenReturn(allBookings);
+        when(converter.bookingViewConvertToBookingGetResponse(allBookings)).thenReturn(expectedAllResponses);
 
         List<BookingGetResponse> actualAllResponses = bookingService.getOwnerBookings(ownerId, stateStr, from, size);
 
         assertEquals(expectedAllResponses, actualAllResponses);
         verify(userService).checkUserDoesntExistAndThrowIfNotFound(ownerId);
-        verify(bookingRepository).findByItem_Owner_IdOrderByStartDesc(eq(ownerId), any(Pageable.class));
-        verify(converter).bookingConvertToBookingGetResponse(allBookings);
+        verify(bookingRepository).findBookingViews(queryFor(BookingQuery.Role.OWNER, ownerId, State.ALL), any(Pageable.class));
+        verify(converter).bookingViewConvertToBookingGetResponse(allBookings);
     }
 
     @Test
@@ -282,19 +475,19 @@ class BookingServiceImplTest {
         String stateStr = "PAST";
         Long from = 0L;
         Long size = 10L;
-        List<Booking> pastBookings = Arrays.asList(new Booking(), new Booking());
+        List<BookingView> pastBookings = Arrays.asList(bookingView(), bookingView());
         List<BookingGetResponse> expectedPastResponses = Arrays.asList(new BookingGetResponse(), new BookingGetResponse());
 
         doNothing().when(userService).checkUserDoesntExistAndThrowIfNotFound(any());
-        when(bookingRepository.findByItem_Owner_IdAndEndIsBeforeOrderByStartDesc(eq(ownerId), any(LocalDateTime.class), any(Pageable.class))).thenReturn(pastBookings);
-        when(converter.bookingConvertToBookingGetResponse(pastBookings)).thenReturn(expectedPastResponses);
+        when(bookingRepository.findBookingViews(queryFor(BookingQuery.Role.OWNER, ownerId, State.PAST), any(Pageable.class))).thenReturn(pastBookings);
+        when(converter.bookingViewConvertToBookingGetResponse(pastBookings)).thenReturn(expectedPastResponses);
 
         List<BookingGetResponse> actualPastResponses = bookingService.getOwnerBookings(ownerId, stateStr, from, size);
 
         assertEquals(expectedPastResponses, actualPastResponses);
         verify(userService).checkUserDoesntExistAndThrowIfNotFound(ownerId);
-        verify(bookingRepository).findByItem_Owner_IdAndEndIsBeforeOrderByStartDesc(eq(ownerId), any(LocalDateTime.class), any(Pageable.class));
-        verify(converter).bookingConvertToBookingGetResponse(pastBookings);
+        verify(bookingRepository).findBookingViews(queryFor(BookingQuery.Role.OWNER, ownerId, State.PAST), any(Pageable.class));
+        verify(converter).bookingViewConvertToBookingGetResponse(pastBookings);
     }
 
     @Test
@@ -303,19 +496,19 @@ class BookingServiceImplTest {
         String stateStr = "CURRENT";
         Long from = 0L;
         Long size = 10L;
-        List<Booking> currentBookings = Arrays.asList(new Booking(), new Booking());
+        List<BookingView> currentBookings = Arrays.asList(bookingView(), bookingView());
         List<BookingGetResponse> expectedCurrentResponses = Arrays.asList(new BookingGetResponse(), new BookingGetResponse());
 
         doNothing().when(userService).checkUserDoesntExistAndThrowIfNotFound(any());
-        when(bookingRepository.findByItem_Owner_IdAndEndAfterAndStartBeforeOrderByStartDesc(eq(ownerId), any(LocalDateTime.class), any(LocalDateTime.class), any(Pageable.class))).thenReturn(currentBookings);
-        when(converter.bookingConvertToBookingGetResponse(currentBookings)).thenReturn(expectedCurrentResponses);
+        when(bookingRepository.findBookingViews(queryFor(BookingQuery.Role.OWNER, ownerId, State.CURRENT), any(Pageable.class))).thenReturn(currentBookings);
+        when(converter.bookingViewConvertToBookingGetResponse(currentBookings)).thenReturn(expectedCurrentResponses);
 
         List<BookingGetResponse> actualCurrentResponses = bookingService.getOwnerBookings(ownerId, stateStr, from, size);
 
         assertEquals(expectedCurrentResponses, actualCurrentResponses);
         verify(userService).checkUserDoesntExistAndThrowIfNotFound(ownerId);
-        verify(bookingRepository).findByItem_Owner_IdAndEndAfterAndStartBeforeOrderByStartDesc(eq(ownerId), any(LocalDateTime.class), any(LocalDateTime.class), any(Pageable.class));
-        verify(converter).bookingConvertToBookingGetResponse(currentBookings);
+        verify(bookingRepository).findBookingViews(queryFor(BookingQuery.Role.OWNER, ownerId, State.CURRENT), any(Pageable.class));
+        verify(converter).bookingViewConvertToBookingGetResponse(currentBookings);
     }
 
     @Test
@@ -324,19 +517,19 @@ class BookingServiceImplTest {
         String stateStr = "WAITING";
         Long from = 0L;
         Long size = 10L;
-        List<Booking> waitingBookings = Arrays.asList(new Booking(), new Booking());
+        List<BookingView> waitingBookings = Arrays.asList(bookingView(), bookingView());
         List<BookingGetResponse> expectedWaitingResponses = Arrays.asList(new BookingGetResponse(), new BookingGetResponse());
 
         doNothing().when(userService).checkUserDoesntExistAndThrowIfNotFound(any());
-        when(bookingRepository.findByItem_Owner_IdAndStatus(eq(ownerId), eq(Status.WAITING), any(Pageable.class))).thenReturn(waitingBookings);
-        when(converter.bookingConvertToBookingGetResponse(waitingBookings)).thenReturn(expectedWaitingResponses);
+        when(bookingRepository.findBookingViews(queryFor(BookingQuery.Role.OWNER, ownerId, State.WAITING), any(Pageable.class))).thenReturn(waitingBookings);
+        when(converter.bookingViewConvertToBookingGetResponse(waitingBookings)).thenReturn(expectedWaitingResponses);
 
         List<BookingGetResponse> actualWaitingResponses = bookingService.getOwnerBookings(ownerId, stateStr, from, size);
 
         assertEquals(expectedWaitingResponses, actualWaitingResponses);
         verify(userService).checkUserDoesntExistAndThrowIfNotFound(ownerId);
-        verify(bookingRepository).findByItem_Owner_IdAndStatus(eq(ownerId), eq(Status.WAITING), any(Pageable.class));
-        verify(converter).bookingConvertToBookingGetResponse(waitingBookings);
+        verify(bookingRepository).findBookingViews(queryFor(BookingQuery.Role.OWNER, ownerId, State.WAITING), any(Pageable.class));
+        verify(converter).bookingViewConvertToBookingGetResponse(waitingBookings);
     }
 
     @Test
@@ -345,19 +538,19 @@ class BookingServiceImplTest {
         String stateStr = "REJECTED";
         Long from = 0L;
         Long size = 10L;
-        List<Booking> rejectedBookings = Arrays.asList(new Booking(), new Booking());
+        List<BookingView> rejectedBookings = Arrays.asList(bookingView(), bookingView());
         List<BookingGetResponse> expectedRejectedResponses = Arrays.asList(new BookingGetResponse(), new BookingGetResponse());
 
         doNothing().when(userService).checkUserDoesntExistAndThrowIfNotFound(any());
-        when(bookingRepository.findByItem_Owner_IdAndStatus(eq(ownerId), eq(Status.REJECTED), any(Pageable.class))).thenReturn(rejectedBookings);
-        when(converter.bookingConvertToBookingGetResponse(rejectedBookings)).thenReturn(expectedRejectedResponses);
+        when(bookingRepository.findBookingViews(queryFor(BookingQuery.Role.OWNER, ownerId, State.REJECTED), any(Pageable.class))).thenReturn(rejectedBookings);
+        when(converter.bookingViewConvertToBookingGetResponse(rejectedBookings)).thenReturn(expectedRejectedResponses);
 
         List<BookingGetResponse> actualRejectedResponses = bookingService.getOwnerBookings(ownerId, stateStr, from, size);
 
         assertEquals(expectedRejectedResponses, actualRejectedResponses);
         verify(userService).checkUserDoesntExistAndThrowIfNotFound(ownerId);
-        verify(bookingRepository).findByItem_Owner_IdAndStatus(eq(ownerId), eq(Status.REJECTED), any(Pageable.class));
-        verify(converter).bookingConvertToBookingGetResponse(rejectedBookings);
+        verify(bookingRepository).findBookingViews(queryFor(BookingQuery.Role.OWNER, ownerId, State.REJECTED), any(Pageable.class));
+        verify(converter).bookingViewConvertToBookingGetResponse(rejectedBookings);
     }
 
     @Test
@@ -366,19 +559,19 @@ class BookingServiceImplTest {
         String stateStr = "FUTURE";
         Long from = 0L;
         Long size = 10L;
-        List<Booking> futureBookings = Arrays.asList(new Booking(), new Booking());
+        List<BookingView> futureBookings = Arrays.asList(bookingView(), bookingView());
         List<BookingGetResponse> expectedFutureResponses = Arrays.asList(new BookingGetResponse(), new BookingGetResponse());
 
         doNothing().when(userService).checkUserDoesntExistAndThrowIfNotFound(any());
-        when(bookingRepository.findByItem_Owner_IdAndStartAfterOrderByStartDesc(eq(ownerId), any(LocalDateTime.class), any(Pageable.class))).thenReturn(futureBookings);
-        when(converter.bookingConvertToBookingGetResponse(futureBookings)).thenReturn(expectedFutureResponses);
+        when(bookingRepository.findBookingViews(queryFor(BookingQuery.Role.OWNER, ownerId, State.FUTURE), any(Pageable.class))).thenReturn(futureBookings);
+        when(converter.bookingViewConvertToBookingGetResponse(futureBookings)).thenReturn(expectedFutureResponses);
 
         List<BookingGetResponse> actualFutureResponses = bookingService.getOwnerBookings(ownerId, stateStr, from, size);
 
         assertEquals(expectedFutureResponses, actualFutureResponses);
         verify(userService).checkUserDoesntExistAndThrowIfNotFound(ownerId);
-        verify(bookingRepository).findByItem_Owner_IdAndStartAfterOrderByStartDesc(eq(ownerId), any(LocalDateTime.class), any(Pageable.class));
-        verify(converter).bookingConvertToBookingGetResponse(futureBookings);
+        verify(bookingRepository).findBookingViews(queryFor(BookingQuery.Role.OWNER, ownerId, State.FUTURE), any(Pageable.class));
+        verify(converter).bookingViewConvertToBookingGetResponse(futureBookings);
     }
 
     @Test
@@ -397,19 +590,19 @@ class BookingServiceImplTest {
         String stateStr = "ALL";
         Long from = 0L;
         Long size = 10L;
-        List<Booking> bookings = Arrays.asList(new Booking(), new Booking());
+        List<BookingView> bookings = Arrays.asList(bookingView(), bookingView());
         List<BookingGetResponse> expectedResponses = Arrays.asList(new BookingGetResponse(), new BookingGetResponse());
 
         doNothing().when(userService).checkUserDoesntExistAndThrowIfNotFound(any());
-        when(bookingRepository.findByBooker_IdOrderByStartDesc(eq(userId), any(Pageable.class))).thenReturn(bookings);
-        when(converter.bookingConvertToBookingGetResponse(bookings)).thenReturn(expectedResponses);
+        when(bookingRepository.findBookingViews(queryFor(BookingQuery.Role.BOOKER, userId, State.ALL), any(Pageable.class))).thenReturn(bookings);
+        when(converter.bookingViewConvertToBookingGetResponse(bookings)).thenReturn(expectedResponses);
 
         List<BookingGetResponse> actualResponses = bookingService.getUserBookings(userId, stateStr, from, size);
 
         assertEquals(expectedResponses, actualResponses);
         verify(userService).checkUserDoesntExistAndThrowIfNotFound(userId);
-        verify(bookingRepository).findByBooker_IdOrderByStartDesc(eq(userId), any(Pageable.class));
-        verify(converter).bookingConvertToBookingGetResponse(bookings);
+        verify(bookingRepository).findBookingViews(queryFor(BookingQuery.Role.BOOKER, userId, State.ALL), any(Pageable.class));
+        verify(converter).bookingViewConvertToBookingGetResponse(bookings);
     }
 
     @Test
@@ -418,19 +611,19 @@ class BookingServiceImplTest {
         String stateStr = "PAST";
         Long from = 0L;
         Long size = 10L;
-        List<Booking> pastBookings = Arrays.asList(new Booking(), new Booking());
+        List<BookingView> pastBookings = Arrays.asList(bookingView(), bookingView());
         List<BookingGetResponse> expectedPastResponses = Arrays.asList(new BookingGetResponse(), new BookingGetResponse());
 
         doNothing().when(userService).checkUserDoesntExistAndThrowIfNotFound(any());
-        when(bookingRepository.findByBooker_IdAndEndBeforeOrderByStartDesc(eq(userId), any(LocalDateTime.class), any(Pageable.class))).thenReturn(pastBookings);
-        when(converter.bookingConvertToBookingGetResponse(pastBookings)).thenReturn(expectedPastResponses);
+        when(bookingRepository.findBookingViews(queryFor(BookingQuery.Role.BOOKER, userId, State.PAST), any(Pageable.class))).thenReturn(pastBookings);
+        when(converter.bookingViewConvertToBookingGetResponse(pastBookings)).thenReturn(expectedPastResponses);
 
         List<BookingGetResponse> actualPastResponses = bookingService.getUserBookings(userId, stateStr, from, size);
 
         assertEquals(expectedPastResponses, actualPastResponses);
         verify(userService).checkUserDoesntExistAndThrowIfNotFound(userId);
-        verify(bookingRepository).findByBooker_IdAndEndBeforeOrderByStartDesc(eq(userId), any(LocalDateTime.class), any(Pageable.class));
-        verify(converter).bookingConvertToBookingGetResponse(pastBookings);
+        verify(bookingRepository).findBookingViews(queryFor(BookingQuery.Role.BOOKER, userId, State.PAST), any(Pageable.class));
+        verify(converter).bookingViewConvertToBookingGetResponse(pastBookings);
     }
 
     @Test
@@ -439,19 +632,19 @@ class BookingServiceImplTest {
         String stateStr = "WAITING";
         Long from = 0L;
         Long size = 10L;
-        List<Booking> waitingBookings = Arrays.asList(new Booking(), new Booking());
+        List<BookingView> waitingBookings = Arrays.asList(bookingView(), bookingView());
         List<BookingGetResponse> expectedWaitingResponses = Arrays.asList(new BookingGetResponse(), new BookingGetResponse());
 
         doNothing().when(userService).checkUserDoesntExistAndThrowIfNotFound(any());
-        when(bookingRepository.findByBooker_IdAndStatusOrderByStartDesc(eq(userId), eq(Status.WAITING), any(Pageable.class))).thenReturn(waitingBookings);
-        when(converter.bookingConvertToBookingGetResponse(waitingBookings)).thenReturn(expectedWaitingResponses);
+        when(bookingRepository.findBookingViews(queryFor(BookingQuery.Role.BOOKER, userId, State.WAITING), any(Pageable.class))).thenReturn(waitingBookings);
+        when(converter.bookingViewConvertToBookingGetResponse(waitingBookings)).thenReturn(expectedWaitingResponses);
 
         List<BookingGetResponse> actualWaitingResponses = bookingService.getUserBookings(userId, stateStr, from, size);
 
         assertEquals(expectedWaitingResponses, actualWaitingResponses);
         verify(userService).checkUserDoesntExistAndThrowIfNotFound(userId);
-        verify(bookingRepository).findByBooker_IdAndStatusOrderByStartDesc(eq(userId), eq(Status.WAITING), any(Pageable.class));
-        verify(converter).bookingConvertToBookingGetResponse(waitingBookings);
+        verify(bookingRepository).findBookingViews(queryFor(BookingQuery.Role.BOOKER, userId, State.WAITING), any(Pageable.class));
+        verify(converter).bookingViewConvertToBookingGetResponse(waitingBookings);
     }
 
     @Test
@@ -460,19 +653,19 @@ class BookingServiceImplTest {
         String stateStr = "REJECTED";
         Long from = 0L;
         Long size = 10L;
-        List<Booking> rejectedBookings = Arrays.asList(new Booking(), new Booking());
+        List<BookingView> rejectedBookings = Arrays.asList(bookingView(), bookingView());
         List<BookingGetResponse> expectedRejectedResponses = Arrays.asList(new BookingGetResponse(), new BookingGetResponse());
 
         doNothing().when(userService).checkUserDoesntExistAndThrowIfNotFound(any());
-        when(bookingRepository.findByBooker_IdAndStatusOrderByStartDesc(eq(userId), eq(Status.REJECTED), any(Pageable.class))).thenReturn(rejectedBookings);
-        when(converter.bookingConvertToBookingGetResponse(rejectedBookings)).thenReturn(expectedRejectedResponses);
+        when(bookingRepository.findBookingViews(queryFor(BookingQuery.Role.BOOKER, userId, State.REJECTED), any(Pageable.class))).thenReturn(rejectedBookings);
+        when(converter.bookingViewConvertToBookingGetResponse(rejectedBookings)).thenReturn(expectedRejectedResponses);
 
         List<BookingGetResponse> actualRejectedResponses = bookingService.getUserBookings(userId, stateStr, from, size);
 
         assertEquals(expectedRejectedResponses, actualRejectedResponses);
         verify(userService).checkUserDoesntExistAndThrowIfNotFound(userId);
-        verify(bookingRepository).findByBooker_IdAndStatusOrderByStartDesc(eq(userId), eq(Status.REJECTED), any(Pageable.class));
-        verify(converter).bookingConvertToBookingGetResponse(rejectedBookings);
+        verify(bookingRepository).findBookingViews(queryFor(BookingQuery.Role.BOOKER, userId, State.REJECTED), any(Pageable.class));
+        verify(converter).bookingViewConvertToBookingGetResponse(rejectedBookings);
     }
 
     @Test
@@ -481,19 +674,19 @@ class BookingServiceImplTest {
         String stateStr = "CURRENT";
         Long from = 0L;
         Long size = 10L;
-        List<Booking> currentBookings = Arrays.asList(new Booking(), new Booking());
+        List<BookingView> currentBookings = Arrays.asList(bookingView(), bookingView());
         List<BookingGetResponse> expectedCurrentResponses = Arrays.asList(new BookingGetResponse(), new BookingGetResponse());
 
         doNothing().when(userService).checkUserDoesntExistAndThrowIfNotFound(any());
-        when(bookingRepository.findByBooker_IdAndEndIsAfterAndStartBeforeOrderByStartDesc(eq(userId), any(LocalDateTime.class), any(LocalDateTime.class), any(Pageable.class))).thenReturn(currentBookings);
-        when(converter.bookingConvertToBookingGetResponse(currentBookings)).thenReturn(expectedCurrentResponses);
+        when(bookingRepository.findBookingViews(queryFor(BookingQuery.Role.BOOKER, userId, State.CURRENT), any(Pageable.class))).thenReturn(currentBookings);
+        when(converter.bookingViewConvertToBookingGetResponse(currentBookings)).thenReturn(expectedCurrentResponses);
 
         List<BookingGetResponse> actualCurrentResponses = bookingService.getUserBookings(userId, stateStr, from, size);
 
         assertEquals(expectedCurrentResponses, actualCurrentResponses);
         verify(userService).checkUserDoesntExistAndThrowIfNotFound(userId);
-        verify(bookingRepository).findByBooker_IdAndEndIsAfterAndStartBeforeOrderByStartDesc(eq(userId), any(LocalDateTime.class), any(LocalDateTime.class), any(Pageable.class));
-        verify(converter).bookingConvertToBookingGetResponse(currentBookings);
+        verify(bookingRepository).findBookingViews(queryFor(BookingQuery.Role.BOOKER, userId, State.CURRENT), any(Pageable.class));
+        verify(converter).bookingViewConvertToBookingGetResponse(currentBookings);
     }
 
     @Test
@@ -502,20 +695,28 @@ class BookingServiceImplTest {
         String stateStr = "FUTURE";
         Long from = 0L;
         Long size = 10L;
-        List<Booking> futureBookings = Arrays.asList(new Booking(), new Booking());
+        List<BookingView> futureBookings = Arrays.asList(bookingView(), bookingView());
         List<BookingGetResponse> expectedFutureResponses = Arrays.asList(new BookingGetResponse(), new BookingGetResponse());
 
         doNothing().when(userService).checkUserDoesntExistAndThrowIfNotFound(any());
-        when(bookingRepository.findByBooker_IdAndStartAfterOrderByStartDesc(eq(userId), any(LocalDateTime.class), any(Pageable.class))).thenReturn(futureBookings);
-        when(converter.bookingConvertToBookingGetResponse(futureBookings)).thenReturn(expectedFutureResponses);
+        when(bookingRepository.findBookingViews(queryFor(BookingQuery.Role.BOOKER, userId, State.FUTURE), any(Pageable.class))).thenReturn(futureBookings);
+        when(converter.bookingViewConvertToBookingGetResponse(futureBookings)).thenReturn(expectedFutureResponses);
 
         List<BookingGetResponse> actualFutureResponses = bookingService.getUserBookings(userId, stateStr, from, size);
 
         assertEquals(expectedFutureResponses, actualFutureResponses);
         verify(userService).checkUserDoesntExistAndThrowIfNotFound(userId);
-        verify(bookingRepository).findByBooker_IdAndStartAfterOrderByStartDesc(eq(userId), any(LocalDateTime.class), any(Pageable.class));
-        verify(converter).bookingConvertToBookingGetResponse(futureBookings);
+        verify(bookingRepository).findBookingViews(queryFor(BookingQuery.Role.BOOKER, userId, State.FUTURE), any(Pageable.class));
+        verify(converter).bookingViewConvertToBookingGetResponse(futureBookings);
     }
 
+    private static BookingView bookingView() {
+        return new BookingView(null, null, null, null, null, null, null, null, null, null, null, null, null, null,
+                null, null, null);
+    }
 
-}
\ No newline at end of file
+    private static BookingQuery queryFor(BookingQuery.Role role, Long userId, State state) {
+        return argThat(query -> query.getRole() == role && query.getUserId().equals(userId)
+                && query.getState() == state && query.getNow() != null && query.getCursor() == null);
+    }
+}
@@ -0,0 +1,207 @@
+package ru.practicum.shareit.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import ru.practicum.shareit.item.dao.ItemRepository;
+import ru.practicum.shareit.item.dto.ItemSnapshot;
+import ru.practicum.shareit.item.dto.ItemUpdateRequest;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.dao.UserRepository;
+import ru.practicum.shareit.user.dto.UserSnapshot;
+import ru.practicum.shareit.user.dto.UserUpdateRequest;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static ru.practicum.shareit.config.CacheConfig.calendarsCache;
+import static ru.practicum.shareit.config.CacheConfig.itemsCache;
+import static ru.practicum.shareit.config.CacheConfig.usersCache;
+
+@SpringBootTest
+class CacheConfigTest {
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    ItemRepository itemRepository;
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    ItemService itemService;
+
+    @Autowired
+    CacheManager cacheManager;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Test
+    @DirtiesContext
+    public void testGetUserSnapshot_CalledTwice_SecondCallIsCacheHit() {
+        User user = saveUser("name", "email@mail.ru");
+        RequestContextHolder.resetRequestAttributes();
+
+        Cache<Object, Object> cache = nativeCache(usersCache);
+        userService.getUserSnapshot(user.getId());
+        long hits = cache.stats().hitCount();
+        long misses = cache.stats().missCount();
+
+        userService.getUserSnapshot(user.getId());
+
+        assertEquals(hits + 1, cache.stats().hitCount());
+        assertEquals(misses, cache.stats().missCount());
+    }
+
+    @Test
+    @DirtiesContext
+    public void testGetExistingUser_CachedUser_ReturnsManagedReference() {
+        User user = saveUser("name", "email@mail.ru");
+        userService.getUserSnapshot(user.getId());
+
+        String name = new TransactionTemplate(transactionManager)
+                .execute(status -> userService.getExistingUser(user.getId()).getName());
+
+        assertEquals("name", name);
+        assertInstanceOf(UserSnapshot.class, nativeCache(usersCache).getIfPresent(user.getId()));
+    }
+
+    @Test
+    @DirtiesContext
+    public void testGetUserSnapshot_UserDoesNotExist_NothingCached() {
+        assertThrows(RuntimeException.class, () -> userService.getUserSnapshot(999L));
+
+        assertNull(nativeCache(usersCache).getIfPresent(999L));
+    }
+
+    @Test
+    @DirtiesContext
+    public void testUpdateUser_CachedUser_EvictsUser() {
+        User user = saveUser("name", "email@mail.ru");
+        userService.getUserSnapshot(user.getId());
+
+        userService.update(userUpdate("updated"), user.getId());
+
+        assertNull(nativeCache(usersCache).getIfPresent(user.getId()));
+        assertEquals("updated", userService.get(user.getId()).getName());
+    }
+
+    @Test
+    @DirtiesContext
+    public void testDeleteUser_CachedUser_EvictsUser() {
+        User user = saveUser("name", "email@mail.ru");
+        userService.getUserSnapshot(user.getId());
+
+        userService.delete(user.getId());
+
+        assertNull(nativeCache(usersCache).getIfPresent(user.getId()));
+        assertTrue(userRepository.findById(user.getId()).isEmpty());
+    }
+
+    @Test
+    @DirtiesContext
+    public void testUpdateItem_CachedItem_EvictsItem() {
+        User owner = saveUser("name", "email@mail.ru");
+        Item item = saveItem(owner);
+        itemService.get(item.getId(), owner.getId());
+        assertInstanceOf(ItemSnapshot.class, nativeCache(itemsCache).getIfPresent(item.getId()));
+
+        itemService.update(itemUpdate("updated"), owner.getId(), item.getId());
+
+        assertNull(nativeCache(itemsCache).getIfPresent(item.getId()));
+        assertEquals("updated", itemService.get(item.getId(), owner.getId()).getName());
+    }
+
+    @Test
+    @DirtiesContext
+    public void testUpdateUser_ConcurrentReadBeforeCommit_DoesNotCacheOldUser() {
+        User user = saveUser("name", "email@mail.ru");
+        userService.getUserSnapshot(user.getId());
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            userService.update(userUpdate("updated"), user.getId());
+            String seenBeforeCommit = CompletableFuture.supplyAsync(() -> userService.get(user.getId()).getName()).join();
+            assertEquals("name", seenBeforeCommit);
+        });
+
+        assertEquals("updated", userService.get(user.getId()).getName());
+    }
+
+    @Test
+    @DirtiesContext
+    public void testUpdateItem_ConcurrentReadBeforeCommit_DoesNotCacheOldItem() {
+        User owner = saveUser("name", "email@mail.ru");
+        Item item = saveItem(owner);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            itemService.update(itemUpdate("updated"), owner.getId(), item.getId());
+            String seenBeforeCommit = CompletableFuture
+                    .supplyAsync(() -> itemService.get(item.getId(), owner.getId()).getName()).join();
+            assertEquals("item", seenBeforeCommit);
+        });
+
+        assertEquals("updated", itemService.get(item.getId(), owner.getId()).getName());
+    }
+
+    @Test
+    public void testCalendarsCache_HasShorterTtlThanUsersAndItems() {
+        Duration calendarsTtl = expireAfterWrite(calendarsCache);
+
+        assertEquals(Duration.ofSeconds(30), calendarsTtl);
+        assertTrue(calendarsTtl.compareTo(expireAfterWrite(usersCache)) < 0);
+        assertTrue(calendarsTtl.compareTo(expireAfterWrite(itemsCache)) < 0);
+    }
+
+    private Duration expireAfterWrite(String name) {
+        return Duration.ofNanos(nativeCache(name).policy().expireAfterWrite().orElseThrow()
+                .getExpiresAfter(TimeUnit.NANOSECONDS));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Cache<Object, Object> nativeCache(String name) {
+        return ((CaffeineCache) cacheManager.getCache(name)).getNativeCache();
+    }
+
+    private User saveUser(String name, String email) {
+        User user = new User();
+        user.setName(name);
+        user.setEmail(email);
+        return userRepository.save(user);
+    }
+
+    private Item saveItem(User owner) {
+        Item item = new Item();
+        item.setName("item");
+        item.setDescription("description");
+        item.setAvailable(true);
+        item.setOwner(owner);
+        return itemRepository.save(item);
+    }
+
+    private UserUpdateRequest userUpdate(String name) {
+        UserUpdateRequest request = new UserUpdateRequest();
+        request.setName(name);
+        return request;
+    }
+
+    private ItemUpdateRequest itemUpdate(String name) {
+        ItemUpdateRequest request = new ItemUpdateRequest();
+        request.setName(name);
+        return request;
+    }
+}
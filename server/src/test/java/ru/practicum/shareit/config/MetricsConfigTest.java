@@ -0,0 +1,90 @@
+package ru.practicum.shareit.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.user.dao.UserRepository;
+import ru.practicum.shareit.user.model.User;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static ru.practicum.shareit.config.MetricsConfig.serviceTimer;
+import static ru.practicum.shareit.config.MetricsConfig.sqlStatementsSummary;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureMetrics
+class MetricsConfigTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    MeterRegistry registry;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Test
+    @DirtiesContext
+    public void getUser_CalledTwice_RecordsServiceTimerAndOnlyCacheMissStatement() throws Exception {
+        User user = new User();
+        user.setName("name");
+        user.setEmail("email@mail.ru");
+        userRepository.save(user);
+
+        mockMvc.perform(get("/users/{userId}", user.getId()))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/users/{userId}", user.getId()))
+                .andExpect(status().isOk());
+
+        DistributionSummary statements = registry.find(sqlStatementsSummary)
+                .tags("method", "GET", "uri", "/users/{userId}")
+                .summary();
+        assertNotNull(statements);
+        assertEquals(2, statements.count());
+        assertEquals(1, statements.totalAmount());
+
+        Timer service = registry.find(serviceTimer)
+                .tags("class", "ru.practicum.shareit.user.service.UserServiceImpl", "method", "get")
+                .timer();
+        assertNotNull(service);
+        assertEquals(2, service.count());
+    }
+
+    @Test
+    @DirtiesContext
+    public void getUsers_RecordsSqlStatementsUnderUriTemplate() throws Exception {
+        mockMvc.perform(get("/users"))
+                .andExpect(status().isOk());
+
+        DistributionSummary statements = registry.find(sqlStatementsSummary)
+                .tags("method", "GET", "uri", "/users")
+                .summary();
+        assertNotNull(statements);
+        assertEquals(1, statements.totalAmount());
+    }
+
+    @Test
+    @DirtiesContext
+    public void prometheusEndpoint_ExposesApplicationMetrics() throws Exception {
+        mockMvc.perform(get("/users"));
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("shareit_sql_statements")))
+                .andExpect(content().string(containsString("http_server_requests_seconds")))
+                .andExpect(content().string(containsString("cache_gets_total")));
+    }
+}
@@ -0,0 +1,62 @@
+package ru.practicum.shareit.config;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.user.dto.UserCreateRequest;
+import ru.practicum.shareit.user.dto.UserResponse;
+import ru.practicum.shareit.user.service.UserService;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:replica-config-primary",
+        "shareit.datasource.replica.url=" + ReadReplicaConfigTest.replicaUrl
+})
+@DirtiesContext
+class ReadReplicaConfigTest {
+    static final String replicaUrl = "jdbc:h2:mem:replica-config-replica;DB_CLOSE_DELAY=-1";
+
+    private static final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(replicaUrl, "test", "test"));
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    DataSource primaryDataSource;
+
+    @BeforeAll
+    static void migrateReplica() {
+        Flyway.configure()
+                .dataSource(replicaUrl, "test", "test")
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+        replica.update("insert into users (name, email) values ('replica', 'replica@mail.ru')");
+    }
+
+    @Test
+    public void readOnlyServiceCalls_AreServedByReplica_WritesGoToPrimary() {
+        UserCreateRequest request = new UserCreateRequest();
+        request.setName("primary");
+        request.setEmail("primary@mail.ru");
+        userService.create(request);
+
+        List<String> names = userService.getAll().stream().map(UserResponse::getName).collect(Collectors.toList());
+
+        assertEquals(List.of("replica"), names);
+        assertEquals(List.of("primary"),
+                new JdbcTemplate(primaryDataSource).queryForList("select name from users", String.class));
+    }
+}
@@ -0,0 +1,71 @@
+package ru.practicum.shareit.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReadReplicaRoutingDataSourceTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    public void getConnection_WhenTransactionIsReadOnly_UsesReplica() {
+        DataSource dataSource = routing(h2("routing-primary"), h2("routing-replica"));
+
+        assertEquals("ROUTING-REPLICA", databaseName(dataSource, true));
+        assertEquals(0, fallbacks());
+    }
+
+    @Test
+    public void getConnection_WhenTransactionIsReadWrite_UsesPrimary() {
+        DataSource dataSource = routing(h2("routing-primary"), h2("routing-replica"));
+
+        assertEquals("ROUTING-PRIMARY", databaseName(dataSource, false));
+    }
+
+    @Test
+    public void getConnection_WithoutTransaction_UsesPrimary() {
+        DataSource dataSource = routing(h2("routing-primary"), h2("routing-replica"));
+
+        assertEquals("ROUTING-PRIMARY", new JdbcTemplate(dataSource).queryForObject("select database()", String.class));
+    }
+
+    @Test
+    public void getConnection_WhenReplicaIsUnavailable_FallsBackToPrimaryUntilRetry() {
+        DriverManagerDataSource unavailable = new DriverManagerDataSource("jdbc:h2:mem:routing-replica;IFEXISTS=TRUE");
+        DataSource dataSource = routing(h2("routing-primary"), unavailable);
+
+        assertEquals("ROUTING-PRIMARY", databaseName(dataSource, true));
+        assertEquals("ROUTING-PRIMARY", databaseName(dataSource, true));
+        assertEquals(2, fallbacks());
+    }
+
+    private DataSource routing(DataSource primary, DataSource replica) {
+        ReadReplicaRoutingDataSource routing = new ReadReplicaRoutingDataSource(primary, replica, Duration.ofMinutes(1));
+        routing.bindTo(registry);
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    private static String databaseName(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status ->
+                new JdbcTemplate(dataSource).queryForObject("select database()", String.class));
+    }
+
+    private static DataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name);
+    }
+
+    private double fallbacks() {
+        return registry.get(ReadReplicaRoutingDataSource.replicaFallbacksCounter).functionCounter().count();
+    }
+}
@@ -0,0 +1,173 @@
+package ru.practicum.shareit.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SharedCachesTest {
+    private static final Duration replicaMaxLag = Duration.ofSeconds(5);
+
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
+    private final ReadReplicaRoutingDataSource routingDataSource = new ReadReplicaRoutingDataSource(
+            new DriverManagerDataSource("jdbc:h2:mem:shared-primary"),
+            new DriverManagerDataSource("jdbc:h2:mem:shared-replica"),
+            Duration.ofMinutes(1));
+
+    @AfterEach
+    public void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void get_Miss_LoadsAndCaches() {
+        SharedCaches caches = new SharedCaches(cacheManager, routingDataSource, replicaMaxLag);
+
+        assertEquals("loaded", caches.get("test", 1L, String.class, () -> "loaded"));
+
+        assertEquals("loaded", cache().get(1L, String.class));
+    }
+
+    @Test
+    public void get_Hit_DoesNotLoad() {
+        SharedCaches caches = new SharedCaches(cacheManager, routingDataSource, replicaMaxLag);
+        cache().put(1L, "cached");
+
+        assertEquals("cached", caches.get("test", 1L, String.class, () -> fail("loaded on a hit")));
+    }
+
+    @Test
+    public void get_LoaderReturnsNull_NothingCached() {
+        SharedCaches caches = new SharedCaches(cacheManager, routingDataSource, replicaMaxLag);
+
+        assertNull(caches.get("test", 1L, String.class, () -> null));
+
+        assertNull(cache().get(1L));
+    }
+
+    @Test
+    public void get_ReadOnlyTransactionOnReplica_Caches() {
+        SharedCaches caches = new SharedCaches(cacheManager, routingDataSource, replicaMaxLag);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals("replica", caches.get("test", 1L, String.class, () -> "replica"));
+
+        assertEquals("replica", cache().get(1L, String.class));
+    }
+
+    @Test
+    public void get_ReplicaReadWithinMaxLagOfWrite_LoadsWithoutCaching() {
+        SharedCaches caches = new SharedCaches(cacheManager, routingDataSource, Duration.ofMinutes(1));
+        caches.evictAfterCommit("test", 1L);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals("old", caches.get("test", 1L, String.class, () -> "old"));
+        assertEquals("other", caches.get("test", 2L, String.class, () -> "other"));
+
+        assertNull(cache().get(1L));
+        assertEquals("other", cache().get(2L, String.class));
+    }
+
+    @Test
+    public void get_ReplicaReadAfterMaxLagOfWrite_Caches() throws InterruptedException {
+        SharedCaches caches = new SharedCaches(cacheManager, routingDataSource, Duration.ofMillis(20));
+        caches.evictAfterCommit("test", 1L);
+        Thread.sleep(50);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        caches.get("test", 1L, String.class, () -> "replica");
+
+        assertEquals("replica", cache().get(1L, String.class));
+    }
+
+    @Test
+    public void get_PrimaryReadWithinMaxLagOfWrite_Caches() {
+        SharedCaches caches = new SharedCaches(cacheManager, routingDataSource, Duration.ofMinutes(1));
+        caches.evictAfterCommit("test", 1L);
+
+        caches.get("test", 1L, String.class, () -> "primary");
+
+        assertEquals("primary", cache().get(1L, String.class));
+    }
+
+    @Test
+    public void get_ReadOnlyTransactionOnReplica_ServesCachedValue() {
+        SharedCaches caches = new SharedCaches(cacheManager, routingDataSource, replicaMaxLag);
+        cache().put(1L, "primary");
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals("primary", caches.get("test", 1L, String.class, () -> "replica"));
+    }
+
+    @Test
+    public void get_ReadOnlyTransactionWithoutReplica_Caches() {
+        SharedCaches caches = new SharedCaches(cacheManager, null, replicaMaxLag);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        caches.get("test", 1L, String.class, () -> "primary");
+
+        assertEquals("primary", cache().get(1L, String.class));
+    }
+
+    @Test
+    public void get_WriteCommittedWhileLoadingFromPrimary_NothingCached() {
+        SharedCaches caches = new SharedCaches(cacheManager, null, replicaMaxLag);
+
+        String loaded = caches.get("test", 1L, String.class, () -> {
+            caches.evictAfterCommit("test", 1L);
+            return "old";
+        });
+
+        assertEquals("old", loaded);
+        assertNull(cache().get(1L));
+    }
+
+    @Test
+    public void get_WriteToOtherKeyWhileLoading_Caches() {
+        SharedCaches caches = new SharedCaches(cacheManager, null, replicaMaxLag);
+
+        caches.get("test", 1L, String.class, () -> {
+            caches.evictAfterCommit("test", 2L);
+            return "loaded";
+        });
+
+        assertEquals("loaded", cache().get(1L, String.class));
+    }
+
+    @Test
+    public void evictAfterCommit_InsideTransaction_EvictsOnlyAfterCommit() {
+        SharedCaches caches = new SharedCaches(cacheManager, null, replicaMaxLag);
+        cache().put(1L, "old");
+        TransactionSynchronizationManager.initSynchronization();
+
+        caches.evictAfterCommit("test", 1L);
+
+        assertEquals("old", cache().get(1L, String.class));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertNull(cache().get(1L));
+    }
+
+    @Test
+    public void evictAfterCommit_WithoutTransaction_EvictsImmediately() {
+        SharedCaches caches = new SharedCaches(cacheManager, null, replicaMaxLag);
+        cache().put(1L, "old");
+
+        caches.evictAfterCommit("test", 1L);
+
+        assertNull(cache().get(1L));
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache("test");
+    }
+}
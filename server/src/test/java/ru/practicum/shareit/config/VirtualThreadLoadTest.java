@@ -0,0 +1,118 @@
+package ru.practicum.shareit.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.web.filter.OncePerRequestFilter;
+import ru.practicum.shareit.ShareItServer;
+import ru.practicum.shareit.user.dao.UserRepository;
+import ru.practicum.shareit.user.model.User;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// Opt-in: mvn -Pvirtual-threads test -Dshareit.load-test=true -Dtest=VirtualThreadLoadTest
+@Slf4j
+@EnabledIfSystemProperty(named = "shareit.load-test", matches = "true")
+class VirtualThreadLoadTest {
+    private static final int concurrency = 1000;
+    private static final long simulatedLatencyMs = 50;
+    private static final Duration warmup = Duration.ofSeconds(5);
+    private static final Duration measurement = Duration.ofSeconds(15);
+
+    @Test
+    public void virtualThreads_WhenRequestsBlockOnIo_SustainMoreThroughputThanPlatformPool() throws Exception {
+        assumeTrue(Runtime.version().feature() >= 21, "Virtual threads require Java 21 or newer");
+
+        double platformThroughput = measureThroughput(false);
+        double virtualThroughput = measureThroughput(true);
+
+        String summary = String.format("Throughput at %d concurrent clients: platform threads %.0f req/s, "
+                + "virtual threads %.0f req/s", concurrency, platformThroughput, virtualThroughput);
+        log.info(summary);
+        assertTrue(virtualThroughput > platformThroughput, summary);
+    }
+
+    private double measureThroughput(boolean virtualThreads) throws InterruptedException {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ShareItServer.class, SimulatedIoConfig.class)
+                .profiles("test")
+                .run("--server.port=0",
+                        "--server.tomcat.accept-count=" + concurrency,
+                        "--shareit.threads.virtual=" + virtualThreads,
+                        "--spring.datasource.url=jdbc:h2:mem:load-" + virtualThreads)) {
+            User user = new User();
+            user.setName("load");
+            user.setEmail("load@mail.ru");
+            Long userId = context.getBean(UserRepository.class).save(user).getId();
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI uri = URI.create("http://localhost:" + port + "/users/" + userId);
+
+            drive(uri, warmup);
+            return (double) drive(uri, measurement) / measurement.toSeconds();
+        }
+    }
+
+    private long drive(URI uri, Duration duration) throws InterruptedException {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+        Semaphore inFlight = new Semaphore(concurrency);
+        AtomicLong completed = new AtomicLong();
+        long deadline = System.nanoTime() + duration.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!inFlight.tryAcquire(10, TimeUnit.MILLISECONDS)) {
+                continue;
+            }
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        if (error == null && response.statusCode() == 200) {
+                            completed.incrementAndGet();
+                        }
+                        inFlight.release();
+                    });
+        }
+        long completedInWindow = completed.get();
+        inFlight.acquire(concurrency);
+        return completedInWindow;
+    }
+
+    @TestConfiguration
+    static class SimulatedIoConfig {
+
+        @Bean
+        public FilterRegistrationBean<OncePerRequestFilter> simulatedIoLatency() {
+            return new FilterRegistrationBean<>(new OncePerRequestFilter() {
+                @Override
+                protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                                FilterChain chain) throws ServletException, IOException {
+                    try {
+                        Thread.sleep(simulatedLatencyMs);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new ServletException(e);
+                    }
+                    chain.doFilter(request, response);
+                }
+            });
+        }
+    }
+}
@@ -12,6 +12,7 @@ import ru.practicum.shareit.item.service.CommentService;
 import ru.practicum.shareit.item.service.ItemServiceImpl;
 
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -136,7 +137,7 @@ class ItemControllerTest {
     public void testGetAllItems_ValidData_ReturnItemGetResponseList() throws Exception {
         List<ItemGetResponse> expectedResponses = getItemGetResponses();
 
-        when(itemService.getAll(any(), any(), any())).thenReturn(expectedResponses);
+        when(itemService.getAll(any(), any(), any(), any())).thenReturn(expectedResponses);
 
         mvc.perform(get("/items")
                         .header(xSharerUserId, 1L)
@@ -174,6 +175,32 @@ class ItemControllerTest {
                 .andExpect(jsonPath("$[0].description", is("description1")));
     }
 
+    @Test
+    public void testGetAvailability_ValidData_ReturnItemAvailabilityResponse() throws Exception {
+        LocalDateTime from = LocalDateTime.of(2030, 1, 1, 0, 0);
+        LocalDateTime to = from.plusDays(1);
+        ItemAvailabilityResponse expectedResponse = new ItemAvailabilityResponse();
+        expectedResponse.setItemId(1L);
+        expectedResponse.setFrom(from);
+        expectedResponse.setTo(to);
+        expectedResponse.setFree(List.of(new AvailabilityInterval(from.plusHours(2), to)));
+        expectedResponse.setBusy(List.of(new AvailabilityInterval(from, from.plusHours(2))));
+
+        when(itemService.getAvailability(1L, 1L, from, to)).thenReturn(expectedResponse);
+
+        mvc.perform(get("/items/1/availability")
+                        .param("from", from.toString())
+                        .param("to", to.toString())
+                        .header(xSharerUserId, 1L)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itemId", is(1), Integer.class))
+                .andExpect(jsonPath("$.busy[0].start", is("2030-01-01T00:00:00")))
+                .andExpect(jsonPath("$.busy[0].end", is("2030-01-01T02:00:00")))
+                .andExpect(jsonPath("$.free[0].start", is("2030-01-01T02:00:00")))
+                .andExpect(jsonPath("$.free[0].end", is("2030-01-02T00:00:00")));
+    }
+
     @Test
     public void testCreateComment_ValidData_ReturnCommentResponse() throws Exception {
         CommentCreateRequest request = new CommentCreateRequest();
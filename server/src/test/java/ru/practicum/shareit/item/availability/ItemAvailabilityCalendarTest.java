@@ -0,0 +1,57 @@
+package ru.practicum.shareit.item.availability;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import ru.practicum.shareit.booking.dao.BookingRepository;
+import ru.practicum.shareit.config.SharedCaches;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static ru.practicum.shareit.config.CacheConfig.calendarsCache;
+
+@ExtendWith(MockitoExtension.class)
+class ItemAvailabilityCalendarTest {
+    private static final LocalDateTime day = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Test
+    public void availability_Loaded_IsCached() {
+        ItemAvailabilityCalendar calendar = calendar();
+        when(bookingRepository.findIntervalsByItemId(eq(1L), anyCollection())).thenReturn(List.of());
+
+        calendar.availability(1L, day, day.plusHours(1));
+
+        assertNotNull(cacheManager.getCache(calendarsCache).get(1L));
+    }
+
+    @Test
+    public void availability_BookingCommittedWhileLoading_NotCached() {
+        ItemAvailabilityCalendar calendar = calendar();
+        when(bookingRepository.findIntervalsByItemId(eq(1L), anyCollection())).thenAnswer(invocation -> {
+            calendar.invalidate(1L);
+            return List.of();
+        });
+
+        assertEquals(1, calendar.availability(1L, day, day.plusHours(1)).getFree().size());
+
+        assertNull(cacheManager.getCache(calendarsCache).get(1L));
+    }
+
+    private ItemAvailabilityCalendar calendar() {
+        return new ItemAvailabilityCalendar(bookingRepository, new SharedCaches(cacheManager, null, Duration.ofSeconds(5)));
+    }
+}
@@ -0,0 +1,71 @@
+package ru.practicum.shareit.item.availability;
+
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.booking.dto.BookingIntervalView;
+import ru.practicum.shareit.item.dto.AvailabilityInterval;
+import ru.practicum.shareit.item.dto.ItemAvailabilityResponse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ItemCalendarTest {
+    private static final LocalDateTime day = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    private static BookingIntervalView booking(int startHour, int endHour) {
+        return new BookingIntervalView() {
+            @Override
+            public LocalDateTime getStart() {
+                return day.plusHours(startHour);
+            }
+
+            @Override
+            public LocalDateTime getEnd() {
+                return day.plusHours(endHour);
+            }
+        };
+    }
+
+    private static AvailabilityInterval interval(int startHour, int endHour) {
+        return new AvailabilityInterval(day.plusHours(startHour), day.plusHours(endHour));
+    }
+
+    @Test
+    public void between_NoBookings_WholeRangeIsFree() {
+        ItemAvailabilityResponse response = ItemCalendar.of(List.of()).between(day, day.plusHours(24));
+
+        assertEquals(List.of(interval(0, 24)), response.getFree());
+        assertEquals(List.of(), response.getBusy());
+    }
+
+    @Test
+    public void between_OverlappingAndAdjacentBookings_AreMergedIntoOneBusyInterval() {
+        ItemCalendar calendar = ItemCalendar.of(List.of(booking(2, 5), booking(3, 4), booking(5, 7), booking(10, 12)));
+
+        ItemAvailabilityResponse response = calendar.between(day, day.plusHours(24));
+
+        assertEquals(List.of(interval(2, 7), interval(10, 12)), response.getBusy());
+        assertEquals(List.of(interval(0, 2), interval(7, 10), interval(12, 24)), response.getFree());
+    }
+
+    @Test
+    public void between_RangeCutsThroughBookings_ClipsIntervalsToRange() {
+        ItemCalendar calendar = ItemCalendar.of(List.of(booking(2, 5), booking(10, 12), booking(20, 22)));
+
+        ItemAvailabilityResponse response = calendar.between(day.plusHours(4), day.plusHours(11));
+
+        assertEquals(List.of(interval(4, 5), interval(10, 11)), response.getBusy());
+        assertEquals(List.of(interval(5, 10)), response.getFree());
+    }
+
+    @Test
+    public void between_RangeStartsWhereBookingEnds_SkipsThatBooking() {
+        ItemCalendar calendar = ItemCalendar.of(List.of(booking(2, 5), booking(10, 12)));
+
+        ItemAvailabilityResponse response = calendar.between(day.plusHours(5), day.plusHours(10));
+
+        assertEquals(List.of(), response.getBusy());
+        assertEquals(List.of(interval(5, 10)), response.getFree());
+    }
+}
@@ -0,0 +1,76 @@
+package ru.practicum.shareit.item.dao;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import ru.practicum.shareit.item.dto.CommentView;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.dao.UserRepository;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+class CommentRepositoryTest {
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Test
+    public void findByItemIdIn_WhenCommentsExistForSeveralItems_ReturnsViewsWithAuthorNames() {
+        User user = new User();
+        user.setName("author");
+        user.setEmail("author@mail.ru");
+        userRepository.save(user);
+
+        Item item1 = new Item();
+        item1.setName("item1");
+        item1.setDescription("description1");
+        item1.setAvailable(true);
+        item1.setOwner(user);
+        itemRepository.save(item1);
+
+        Item item2 = new Item();
+        item2.setName("item2");
+        item2.setDescription("description2");
+        item2.setAvailable(true);
+        item2.setOwner(user);
+        itemRepository.save(item2);
+
+        Item item3 = new Item();
+        item3.setName("item3");
+        item3.setDescription("description3");
+        item3.setAvailable(true);
+        item3.setOwner(user);
+        itemRepository.save(item3);
+
+        LocalDateTime now = LocalDateTime.now();
+        commentRepository.save(new Comment("first", item1, user, now.minusHours(2)));
+        commentRepository.save(new Comment("second", item1, user, now.minusHours(1)));
+        commentRepository.save(new Comment("third", item2, user, now));
+        commentRepository.save(new Comment("ignored", item3, user, now));
+
+        List<CommentView> views = commentRepository.findByItemIdIn(List.of(item1.getId(), item2.getId()));
+
+        assertEquals(3, views.size());
+        assertEquals("first", views.get(0).getText());
+        assertEquals(item1.getId(), views.get(0).getItemId());
+        assertTrue(views.stream().allMatch(view -> view.getAuthorName().equals("author")));
+    }
+
+    @Test
+    public void findByItemIdIn_WhenNoCommentsExist_ReturnsEmptyList() {
+        List<CommentView> views = commentRepository.findByItemIdIn(List.of(999L));
+
+        assertTrue(views.isEmpty());
+    }
+}
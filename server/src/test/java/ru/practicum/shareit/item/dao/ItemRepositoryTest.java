@@ -5,6 +5,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.item.dto.ItemSearchView;
+import ru.practicum.shareit.item.dto.ItemSnapshot;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.user.dao.UserRepository;
 import ru.practicum.shareit.user.model.User;
@@ -12,6 +14,7 @@ import ru.practicum.shareit.user.model.User;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DataJpaTest
@@ -74,67 +77,92 @@ class ItemRepositoryTest {
         assertTrue(items.contains(item2));
     }
 
-
     @Test
-    public void searchItemsByDescriptionOrNameIgnoreCaseContaining_WhenMatchingItemsExist_ReturnsMatchingItems() {
+    public void getItemsByOwnerIdAfterCursor_WhenItemsExist_ReturnsItemsAfterCursorId() {
+        User user = new User();
+        user.setName("name");
+        user.setEmail("email@mail.ru");
+        userRepository.save(user);
+
         Item item1 = new Item();
+        item1.setOwner(user);
         item1.setName("item1");
-        item1.setDescription("Laptop");
         item1.setAvailable(true);
+        item1.setDescription("description1");
         itemRepository.save(item1);
 
         Item item2 = new Item();
+        item2.setOwner(user);
         item2.setName("item2");
-        item2.setDescription("Smartphone");
         item2.setAvailable(true);
+        item2.setDescription("description2");
         itemRepository.save(item2);
 
-        String searchKeyword = "Laptop";
-
-        Pageable pageable = Pageable.unpaged();
-        List<Item> itemsPage = itemRepository.findAllByAvailableTrueAndDescriptionContainingIgnoreCaseOrNameContainingIgnoreCase(searchKeyword, searchKeyword, pageable);
+        List<Item> items = itemRepository.findAllByOwnerIdAndIdGreaterThanOrderById(user.getId(), item1.getId(), Pageable.unpaged());
 
-        assertEquals(1, itemsPage.size());
-        assertEquals(item1, itemsPage.get(0));
+        assertEquals(List.of(item2), items);
     }
 
     @Test
-    public void searchItemsByDescriptionOrNameIgnoreCaseContaining_WhenNoMatchingItemsExist_ReturnsEmptyPage() {
+    public void findAvailableSearchViews_WhenSomeItemsUnavailable_ReturnsOnlyAvailableItems() {
         Item item1 = new Item();
         item1.setName("item1");
         item1.setDescription("Laptop");
         item1.setAvailable(true);
         itemRepository.save(item1);
 
-        String searchKeyword = "Phone";
+        Item item2 = new Item();
+        item2.setName("item2");
+        item2.setDescription("Laptop");
+        item2.setAvailable(false);
+        itemRepository.save(item2);
 
-        Pageable pageable = Pageable.unpaged();
-        List<Item> itemsPage = itemRepository.findAllByAvailableTrueAndDescriptionContainingIgnoreCaseOrNameContainingIgnoreCase(searchKeyword, searchKeyword, pageable);
+        List<ItemSearchView> views = itemRepository.findAvailableSearchViews(List.of(item1.getId(), item2.getId()));
 
-        assertEquals(0, itemsPage.size());
+        assertEquals(1, views.size());
+        assertEquals(item1.getId(), views.get(0).getId());
+        assertEquals("item1", views.get(0).getName());
+        assertEquals("Laptop", views.get(0).getDescription());
+        assertTrue(views.get(0).getAvailable());
     }
 
     @Test
-    public void searchItemsByDescriptionOrNameIgnoreCaseContaining_WhenKeywordInItemName_ReturnsMatchingItems() {
-        Item item1 = new Item();
-        item1.setName("item1");
-        item1.setDescription("Laptop");
-        item1.setAvailable(true);
-        itemRepository.save(item1);
+    public void findAvailableSearchViews_WhenIdsDoNotExist_ReturnsEmptyList() {
+        Item item = new Item();
+        item.setName("item1");
+        item.setDescription("Laptop");
+        item.setAvailable(true);
+        itemRepository.save(item);
 
-        Item item2 = new Item();
-        item2.setName("Desktop");
-        item2.setDescription("description");
-        item2.setAvailable(true);
-        itemRepository.save(item2);
+        List<ItemSearchView> views = itemRepository.findAvailableSearchViews(List.of(item.getId() + 1, item.getId() + 2));
+
+        assertTrue(views.isEmpty());
+    }
+
+    @Test
+    public void findSnapshotById_WhenItemHasNoRequest_ReturnsOwnerIdAndNullRequestId() {
+        User user = new User();
+        user.setName("name");
+        user.setEmail("email@mail.ru");
+        userRepository.save(user);
 
-        String searchKeyword = "Desktop";
+        Item item = new Item();
+        item.setName("item1");
+        item.setDescription("Laptop");
+        item.setAvailable(true);
+        item.setOwner(user);
+        itemRepository.save(item);
 
-        Pageable pageable = Pageable.unpaged();
-        List<Item> itemsPage = itemRepository.findAllByAvailableTrueAndDescriptionContainingIgnoreCaseOrNameContainingIgnoreCase(searchKeyword, searchKeyword, pageable);
+        ItemSnapshot snapshot = itemRepository.findSnapshotById(item.getId()).orElseThrow();
 
-        assertEquals(1, itemsPage.size());
-        assertEquals(item2, itemsPage.get(0));
+        assertEquals(item.getId(), snapshot.getId());
+        assertEquals("Laptop", snapshot.getDescription());
+        assertEquals(user.getId(), snapshot.getOwnerId());
+        assertNull(snapshot.getRequestId());
     }
-}
 
+    @Test
+    public void findSnapshotById_WhenItemDoesNotExist_ReturnsEmpty() {
+        assertTrue(itemRepository.findSnapshotById(999L).isEmpty());
+    }
+}
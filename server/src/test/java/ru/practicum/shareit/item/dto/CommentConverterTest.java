@@ -92,4 +92,37 @@ class CommentConverterTest {
         assertEquals(comment2.getAuthor(), responses.get(1).getAuthor());
         assertEquals(comment2.getAuthor().getName(), responses.get(1).getAuthorName());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testCommentViewConvertToCommentResponse_WithNonNullFields_ReturnsCommentResponse() {
+        LocalDateTime created = LocalDateTime.now();
+        CommentView view = new CommentView() {
+            public Long getId() {
+                return 1L;
+            }
+
+            public String getText() {
+                return "Test comment";
+            }
+
+            public Long getItemId() {
+                return 2L;
+            }
+
+            public String getAuthorName() {
+                return "John Doe";
+            }
+
+            public LocalDateTime getCreated() {
+                return created;
+            }
+        };
+
+        CommentResponse response = converter.commentViewConvertToCommentResponse(view);
+
+        assertEquals(1L, response.getId());
+        assertEquals("Test comment", response.getText());
+        assertEquals("John Doe", response.getAuthorName());
+        assertEquals(created, response.getCreated());
+    }
+}
@@ -34,13 +34,6 @@ class ItemConverterTest {
         assertNull(response);
     }
 
-    @Test
-    public void testItemConvertToItemSearchResponse_NullItem_ReturnsNull() {
-        Item item = null;
-        ItemSearchResponse response = itemConverter.itemConvertToItemSearchResponse(item);
-        assertNull(response);
-    }
-
     @Test
     public void testItemUpdateRequestConvertToItem_NullRequest_ReturnsNull() {
         ItemUpdateRequest request = null;
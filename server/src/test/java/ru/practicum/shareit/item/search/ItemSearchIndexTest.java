@@ -0,0 +1,130 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.item.dao.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ItemSearchIndexTest {
+
+    @InjectMocks
+    private ItemSearchIndex index;
+    @Mock
+    private ItemRepository itemRepository;
+
+    private static Item item(long id, String name, String description, boolean available) {
+        Item item = new Item();
+        item.setId(id);
+        item.setName(name);
+        item.setDescription(description);
+        item.setAvailable(available);
+        return item;
+    }
+
+    @BeforeEach
+    void setup() {
+        when(itemRepository.findAll()).thenReturn(List.of(
+                item(1L, "Drill", "Cordless drill with two batteries", true),
+                item(2L, "Screwdriver", "Works as a drill too", true),
+                item(3L, "Hammer drill", "Heavy duty", false),
+                item(4L, "Кофемашина", "Рожковая, для эспрессо", true)));
+        index.rebuild();
+    }
+
+    @Test
+    public void search_TermInNameAndDescription_RanksNameMatchesFirst() {
+        assertEquals(List.of(1L, 2L), index.search("drill"));
+    }
+
+    @Test
+    public void search_UnavailableItem_IsFilteredOut() {
+        assertTrue(index.search("hammer").isEmpty());
+    }
+
+    @Test
+    public void search_UnavailableItemMatchedByDescription_IsFilteredOut() {
+        assertTrue(index.search("heavy").isEmpty());
+    }
+
+    @Test
+    public void search_TermOnlyInDescription_ReturnsItem() {
+        assertEquals(List.of(1L), index.search("cordless"));
+    }
+
+    @Test
+    public void search_NoMatchingItem_ReturnsEmptyList() {
+        assertTrue(index.search("phone").isEmpty());
+    }
+
+    @Test
+    public void search_Prefix_MatchesTokensCaseInsensitively() {
+        assertEquals(List.of(2L), index.search("SCREW"));
+        assertEquals(List.of(4L), index.search("эспре"));
+    }
+
+    @Test
+    public void search_SeveralTerms_RequiresEveryTerm() {
+        assertEquals(List.of(1L), index.search("drill batteries"));
+        assertTrue(index.search("drill espresso").isEmpty());
+    }
+
+    @Test
+    public void search_BlankQuery_ReturnsEmptyList() {
+        assertTrue(index.search("  ,. ").isEmpty());
+    }
+
+    @Test
+    public void index_UpdatedItem_ReplacesPreviousTokensAndAvailability() {
+        index.index(item(1L, "Saw", "Hand saw", true));
+        index.index(item(3L, "Hammer drill", "Heavy duty", true));
+
+        assertEquals(List.of(3L, 2L), index.search("drill"));
+        assertEquals(List.of(1L), index.search("saw"));
+    }
+
+    @Test
+    public void index_DuringRebuild_IsKeptAfterSwap() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(itemRepository.findAll()).thenAnswer(invocation -> {
+            loading.countDown();
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            return List.of(
+                    item(1L, "Drill", "Cordless drill with two batteries", true),
+                    item(5L, "Ladder", "Folding", true));
+        });
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> rebuild = executor.submit(index::rebuild);
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+            index.index(item(1L, "Saw", "Hand saw", true));
+            assertEquals(List.of(1L), index.search("saw"));
+
+            release.countDown();
+            rebuild.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(List.of(1L), index.search("saw"));
+        assertEquals(List.of(5L), index.search("ladder"));
+        assertTrue(index.search("cordless").isEmpty());
+    }
+}
@@ -14,7 +14,6 @@ import ru.practicum.shareit.item.dto.CommentCreateRequest;
 import ru.practicum.shareit.item.dto.CommentResponse;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
-import ru.practicum.shareit.user.dao.UserRepository;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.service.UserService;
 
@@ -39,9 +38,6 @@ public class CommentServiceImplTest {
     @Mock
     private BookingRepository bookingRepository;
 
-    @Mock
-    private UserRepository userRepository;
-
     @Mock
     private ItemRepository itemRepository;
 
@@ -65,8 +61,7 @@ public class CommentServiceImplTest {
         Item item = new Item();
         item.setId(itemId);
 
-        doNothing().when(userService).checkUserDoesntExistAndThrowIfNotFound(any());
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(userService.getExistingUser(userId)).thenReturn(user);
         when(bookingRepository.existsBookingByBookerIdAndItemIdAndEndBefore(anyLong(), anyLong(), any(LocalDateTime.class))).thenReturn(true);
 
         when(itemRepository.findById(itemId)).thenReturn(Optional.of(item));
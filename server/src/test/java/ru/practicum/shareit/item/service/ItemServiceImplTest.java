@@ -4,10 +4,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import ru.practicum.shareit.booking.dao.BookingRepository;
 import ru.practicum.shareit.booking.dto.BookingConverter;
+import ru.practicum.shareit.booking.dto.BookingResponse;
+import ru.practicum.shareit.booking.dto.BookingView;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.config.SharedCaches;
 import ru.practicum.shareit.handler.NotFoundException;
 import ru.practicum.shareit.handler.ValidationException;
 import ru.practicum.shareit.item.dao.CommentRepository;
@@ -15,13 +20,14 @@ import ru.practicum.shareit.item.dao.ItemRepository;
 import ru.practicum.shareit.item.dto.*;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
 import ru.practicum.shareit.itemRequest.dao.ItemRequestRepository;
 import ru.practicum.shareit.itemRequest.model.ItemRequest;
-import ru.practicum.shareit.user.dao.UserRepository;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.service.UserServiceImpl;
 
 import javax.persistence.EntityNotFoundException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -29,6 +35,7 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,8 +47,6 @@ class ItemServiceImplTest {
     @Mock
     private UserServiceImpl userService;
     @Mock
-    private UserRepository userRepository;
-    @Mock
     private ItemConverter itemConverter;
     @Mock
     private ItemRequestRepository itemRequestRepository;
@@ -55,6 +60,10 @@ class ItemServiceImplTest {
     private CommentRepository commentRepository;
     @Mock
     private BookingConverter bookingConverter;
+    @Mock
+    private ItemSearchIndex itemSearchIndex;
+    @Spy
+    private SharedCaches sharedCaches = new SharedCaches(new ConcurrentMapCacheManager(), null, Duration.ofSeconds(5));
 
     @Test
     public void testCreate_UserDoesntExists_NotFoundException() {
@@ -70,9 +79,9 @@ class ItemServiceImplTest {
         item.setName(request.getName());
 
         when(itemConverter.itemCreateRequestConvertToItem(request)).thenReturn(item);
-        doThrow(new EntityNotFoundException("User with ID " + ownerId + " not found")).when(userRepository).findById(anyLong());
+        when(userService.getExistingUser(ownerId)).thenThrow(new NotFoundException("User not found with ID: " + ownerId));
 
-        assertThrows(EntityNotFoundException.class, () -> itemService.create(request, ownerId));
+        assertThrows(NotFoundException.class, () -> itemService.create(request, ownerId));
     }
 
     @Test
@@ -95,7 +104,7 @@ class ItemServiceImplTest {
         user.setEmail("mail@mail.ru");
 
         when(itemConverter.itemCreateRequestConvertToItem(request)).thenReturn(item);
-        when(userRepository.findById(ownerId)).thenReturn(Optional.of(user));
+        when(userService.getExistingUser(ownerId)).thenReturn(user);
         when(itemRequestRepository.findById(anyLong())).thenThrow(ValidationException.class);
 
         assertThrows(ValidationException.class, () -> itemService.create(request, ownerId));
@@ -128,7 +137,7 @@ class ItemServiceImplTest {
         response.setRequestId(request.getRequestId());
 
         when(itemConverter.itemCreateRequestConvertToItem(request)).thenReturn(item);
-        when(userRepository.findById(ownerId)).thenReturn(Optional.of(user));
+        when(userService.getExistingUser(ownerId)).thenReturn(user);
         when(itemRequestRepository.findById(anyLong())).thenReturn(Optional.of(new ItemRequest()));
         when(itemRepository.save(item)).thenReturn(item);
         when(itemConverter.itemConvertToItemCreateResponse(any(Item.class))).thenReturn(response);
@@ -146,9 +155,17 @@ class ItemServiceImplTest {
         request.setAvailable(true);
         request.setDescription("description");
 
+        User owner = new User();
+        owner.setId(ownerId + 1);
+        Item item = new Item();
+        item.setId(1L);
+        item.setOwner(owner);
+
+        when(itemRepository.findForUpdateById(1L)).thenReturn(Optional.of(item));
         doThrow(NotFoundException.class).when(userService).checkUserDoesntExistAndThrowIfNotFound(anyLong());
 
         assertThrows(NotFoundException.class, () -> itemService.update(request, ownerId, 1L));
+        verify(itemRepository, never()).save(any());
     }
 
     @Test
@@ -173,12 +190,12 @@ class ItemServiceImplTest {
         expectedResponse.setAvailable(request.getAvailable());
         expectedResponse.setDescription(request.getDescription());
 
-        doNothing().when(userService).checkUserDoesntExistAndThrowIfNotFound(anyLong());
-        when(itemRepository.findById(itemId)).thenReturn(Optional.of(item));
+        when(itemRepository.findForUpdateById(itemId)).thenReturn(Optional.of(item));
         when(itemConverter.itemUpdateRequestConvertToItem(request)).thenReturn(item);
         when(itemConverter.itemConvertToItemUpdateResponse(itemRepository.save(any()))).thenReturn(expectedResponse);
 
         assertEquals(expectedResponse, itemService.update(request, ownerId, itemId));
+        verifyNoInteractions(userService);
     }
 
     @Test
@@ -235,9 +252,10 @@ class ItemServiceImplTest {
         booking.setStart(LocalDateTime.now());
         booking.setEnd(LocalDateTime.now().plusHours(1));
 
-        when(itemRepository.findById(itemId)).thenReturn(Optional.of(item));
+        ItemSnapshot snapshot = new ItemSnapshot(itemId, "Item Name", "Item Description", true,
+                item.getOwner().getId(), null);
+        when(itemRepository.findSnapshotById(itemId)).thenReturn(Optional.of(snapshot));
 
-        when(itemRepository.existsItemByOwnerIdAndId(userId, itemId)).thenReturn(true);
         when(bookingRepository.existsBookingByItemId(itemId)).thenReturn(true);
 
         ItemGetResponse expectedResponse = new ItemGetResponse();
@@ -245,12 +263,15 @@ class ItemServiceImplTest {
         expectedResponse.setName("Item Name");
         expectedResponse.setDescription("Item Description");
         expectedResponse.setAvailable(true);
-        when(itemConverter.itemConvertToItemGetResponse(item)).thenReturn(expectedResponse);
+        when(itemConverter.itemSnapshotConvertToItemGetResponse(snapshot)).thenReturn(expectedResponse);
 
-        when(commentConverter.convert(anyList())).thenReturn(List.of(commentResponse));
+        CommentView commentView = mock(CommentView.class);
+        when(commentView.getItemId()).thenReturn(itemId);
+        when(commentRepository.findByItemIdIn(List.of(itemId))).thenReturn(List.of(commentView));
+        when(commentConverter.commentViewConvertToCommentResponse(commentView)).thenReturn(commentResponse);
         ItemGetResponse response = itemService.get(itemId, userId);
 
-        assertNotNull(response.getComments());
+        assertEquals(List.of(commentResponse), response.getComments());
     }
 
     @Test
@@ -263,15 +284,18 @@ class ItemServiceImplTest {
         user.setName("name");
         user.setEmail("email@mail.ru");
 
+        User owner = new User();
+        owner.setId(userId + 1);
+
         Item item = new Item();
         item.setId(itemId);
-        item.setOwner(user);
+        item.setOwner(owner);
 
         doNothing().when(userService).checkUserDoesntExistAndThrowIfNotFound(userId);
 
-        when(itemRepository.findById(itemId)).thenReturn(Optional.of(item));
-
-        when(itemRepository.existsItemByOwnerIdAndId(userId, itemId)).thenReturn(false);
+        ItemSnapshot snapshot = new ItemSnapshot(itemId, "Item Name", "Item Description", true,
+                item.getOwner().getId(), null);
+        when(itemRepository.findSnapshotById(itemId)).thenReturn(Optional.of(snapshot));
 
         ItemGetResponse expectedResponse = new ItemGetResponse();
         expectedResponse.setId(item.getId());
@@ -279,13 +303,78 @@ class ItemServiceImplTest {
         expectedResponse.setDescription("Item Description");
         expectedResponse.setAvailable(true);
 
-        when(itemConverter.itemConvertToItemGetResponse(item)).thenReturn(expectedResponse);
+        when(itemConverter.itemSnapshotConvertToItemGetResponse(snapshot)).thenReturn(expectedResponse);
 
         ItemGetResponse response = itemService.get(itemId, userId);
 
-        verify(bookingRepository, never()).findFirstByItemIdAndStartBeforeOrderByStartDesc(anyLong(), any());
+        verify(bookingRepository, never()).findLastBookingsByItemIds(any(), any());
         assertNull(response.getLastBooking());
         assertNull(response.getNextBooking());
         assertNotNull(response.getComments());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testGetAll_SeveralItems_ResolvesBookingsWithOneQueryPerKind() {
+        long ownerId = 1L;
+
+        User owner = new User();
+        owner.setId(ownerId);
+
+        Item item1 = new Item();
+        item1.setId(1L);
+        item1.setOwner(owner);
+        Item item2 = new Item();
+        item2.setId(2L);
+        item2.setOwner(owner);
+
+        ItemGetResponse response1 = new ItemGetResponse();
+        response1.setId(item1.getId());
+        ItemGetResponse response2 = new ItemGetResponse();
+        response2.setId(item2.getId());
+
+        BookingView lastBooking = new BookingView(10L, null, null, null, item1.getId(), null, null, null,
+                ownerId, null, null, null, null, null, null, null, null);
+        BookingResponse lastBookingResponse = new BookingResponse();
+        lastBookingResponse.setId(lastBooking.getId());
+
+        when(itemRepository.findAllByOwnerIdOrderById(eq(ownerId), any())).thenReturn(List.of(item1, item2));
+        when(itemConverter.itemConvertToItemGetResponse(item1)).thenReturn(response1);
+        when(itemConverter.itemConvertToItemGetResponse(item2)).thenReturn(response2);
+        when(bookingRepository.findLastBookingsByItemIds(eq(List.of(1L, 2L)), any())).thenReturn(List.of(lastBooking));
+        when(bookingRepository.findNextBookingsByItemIds(eq(List.of(1L, 2L)), any())).thenReturn(List.of());
+        when(bookingConverter.bookingViewConvertToBookingResponse(lastBooking)).thenReturn(lastBookingResponse);
+
+        List<ItemGetResponse> responses = itemService.getAll(ownerId, 0L, 10L);
+
+        assertEquals(2, responses.size());
+        assertEquals(lastBookingResponse, responses.get(0).getLastBooking());
+        assertNull(responses.get(1).getLastBooking());
+        assertNull(responses.get(1).getNextBooking());
+        verify(bookingRepository, times(1)).findLastBookingsByItemIds(any(), any());
+        verify(bookingRepository, times(1)).findNextBookingsByItemIds(any(), any());
+    }
+
+    @Test
+    public void testSearch_IndexReturnsRankedIds_ReturnsItemsInRankOrder() {
+        long userId = 1L;
+
+        ItemSearchView item1 = mock(ItemSearchView.class);
+        when(item1.getId()).thenReturn(1L);
+        ItemSearchView item2 = mock(ItemSearchView.class);
+        when(item2.getId()).thenReturn(2L);
+
+        ItemSearchResponse response1 = new ItemSearchResponse();
+        response1.setId(1L);
+        ItemSearchResponse response2 = new ItemSearchResponse();
+        response2.setId(2L);
+
+        when(itemSearchIndex.search("drill")).thenReturn(List.of(2L, 1L));
+        when(itemRepository.findAvailableSearchViews(List.of(2L, 1L))).thenReturn(List.of(item1, item2));
+        when(itemConverter.itemSearchViewConvertToItemSearchResponse(item1)).thenReturn(response1);
+        when(itemConverter.itemSearchViewConvertToItemSearchResponse(item2)).thenReturn(response2);
+
+        List<ItemSearchResponse> responses = itemService.search(userId, "drill", 0L, 10L);
+
+        assertEquals(List.of(response2, response1), responses);
+    }
+}
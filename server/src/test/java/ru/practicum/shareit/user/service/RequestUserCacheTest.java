@@ -0,0 +1,85 @@
+package ru.practicum.shareit.user.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import ru.practicum.shareit.handler.NotFoundException;
+import ru.practicum.shareit.user.dto.UserSnapshot;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestUserCacheTest {
+    private final RequestUserCache requestUserCache = new RequestUserCache();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Function<Long, UserSnapshot> loader = id -> {
+        loads.incrementAndGet();
+        return new UserSnapshot(id, "name", "email@mail.ru");
+    };
+
+    @AfterEach
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    public void get_SameRequest_LoadsOnce() {
+        startRequest();
+
+        UserSnapshot first = requestUserCache.get(1L, loader);
+        UserSnapshot second = requestUserCache.get(1L, loader);
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void get_NextRequest_LoadsAgain() {
+        startRequest();
+        requestUserCache.get(1L, loader);
+
+        startRequest();
+        requestUserCache.get(1L, loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void get_OutsideRequest_AlwaysLoads() {
+        requestUserCache.get(1L, loader);
+        requestUserCache.get(1L, loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void get_LoaderThrows_NothingRemembered() {
+        startRequest();
+
+        assertThrows(NotFoundException.class, () -> requestUserCache.get(1L, id -> {
+            throw new NotFoundException("User not found with ID: " + id);
+        }));
+        requestUserCache.get(1L, loader);
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void forget_RememberedUser_LoadsAgain() {
+        startRequest();
+        requestUserCache.get(1L, loader);
+
+        requestUserCache.forget(1L);
+        requestUserCache.get(1L, loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    private void startRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+}
@@ -6,17 +6,22 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import ru.practicum.shareit.config.SharedCaches;
 import ru.practicum.shareit.handler.ConflictException;
 import ru.practicum.shareit.handler.NotFoundException;
 import ru.practicum.shareit.user.dao.UserRepository;
 import ru.practicum.shareit.user.dto.UserConverter;
 import ru.practicum.shareit.user.dto.UserCreateRequest;
 import ru.practicum.shareit.user.dto.UserResponse;
+import ru.practicum.shareit.user.dto.UserSnapshot;
 import ru.practicum.shareit.user.dto.UserUpdateRequest;
 import ru.practicum.shareit.user.model.User;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -53,7 +58,8 @@ class UserServiceImplTest {
 
     @BeforeEach
     public void setup() {
-        userService = new UserServiceImpl(userRepository, userConverter);
+        userService = new UserServiceImpl(userRepository, userConverter, new SharedCaches(new ConcurrentMapCacheManager(), null, Duration.ofSeconds(5)),
+                new RequestUserCache());
     }
 
     @Test
@@ -87,7 +93,7 @@ class UserServiceImplTest {
     @Test
     public void testGet_UserNotFound_ThrowsException() {
         Long userId = 123L;
-        when(userRepository.existsById(userId)).thenReturn(false);
+        when(userRepository.findById(userId)).thenReturn(Optional.empty());
 
         assertThrows(NotFoundException.class, () -> userService.get(userId));
     }
@@ -99,14 +105,13 @@ class UserServiceImplTest {
         user.setId(userId);
         user.setName("name");
         user.setEmail("email@mail.ru");
-        when(userRepository.existsById(userId)).thenReturn(true);
-        when(userRepository.getReferenceById(userId)).thenReturn(user);
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
 
         UserResponse expectedResponse = new UserResponse();
         expectedResponse.setId(userId);
         expectedResponse.setName(user.getName());
         expectedResponse.setEmail(user.getEmail());
-        when(userConverter.userConvertToUserResponse(user)).thenReturn(expectedResponse);
+        when(userConverter.userSnapshotConvertToUserResponse(UserSnapshot.of(user))).thenReturn(expectedResponse);
 
         UserResponse actualResponse = userService.get(userId);
 
@@ -119,7 +124,7 @@ class UserServiceImplTest {
         UserUpdateRequest request = new UserUpdateRequest();
         request.setName("name");
         request.setEmail("mail@mail.ru");
-        when(userRepository.existsById(userId)).thenReturn(false);
+        when(userRepository.findById(userId)).thenReturn(Optional.empty());
 
         assertThrows(NotFoundException.class, () -> userService.update(request, userId));
     }
@@ -136,8 +141,7 @@ class UserServiceImplTest {
         existingUser.setName("John");
         existingUser.setEmail("john@example.com");
 
-        when(userRepository.existsById(userId)).thenReturn(true);
-        when(userRepository.getReferenceById(userId)).thenReturn(existingUser);
+        when(userRepository.findById(userId)).thenReturn(Optional.of(existingUser));
 
         User updatedUser = new User();
         updatedUser.setId(userId);
@@ -151,7 +155,7 @@ class UserServiceImplTest {
         savedUser.setName(request.getName());
         savedUser.setEmail(request.getEmail());
 
-        when(userRepository.save(existingUser)).thenReturn(savedUser);
+        when(userRepository.save(updatedUser)).thenReturn(savedUser);
 
         UserResponse expectedResponse = new UserResponse();
         expectedResponse.setId(userId);
@@ -167,10 +171,10 @@ class UserServiceImplTest {
         assertEquals(request.getName(), actualResponse.getName());
         assertEquals(request.getEmail(), actualResponse.getEmail());
 
-        verify(userRepository, times(1)).existsById(userId);
-        verify(userRepository, times(1)).getReferenceById(userId);
-        verify(userRepository, times(1)).save(existingUser);
+        verify(userRepository, times(1)).findById(userId);
+        verify(userRepository, times(1)).save(updatedUser);
         verify(userConverter, times(1)).userUpdateRequestConvertToUser(request);
+        assertEquals("John Doe", existingUser.getName());
         verify(userConverter, times(1)).userConvertToUserResponse(savedUser);
     }
 
@@ -186,7 +190,7 @@ class UserServiceImplTest {
         existingUser.setName("John");
         existingUser.setEmail(request.getEmail());
 
-        when(userRepository.existsById(userId)).thenReturn(true);
+        when(userRepository.findById(userId)).thenReturn(Optional.of(existingUser));
         when(userRepository.existsByEmailAndIdNot(request.getEmail(), userId)).thenReturn(true);
 
         assertThrows(ConflictException.class, () -> userService.update(request, userId));
@@ -205,9 +209,7 @@ class UserServiceImplTest {
         existingUser.setName("John");
         existingUser.setEmail("john@example.com");
 
-        when(userRepository.existsById(userId)).thenReturn(true);
-
-        when(userRepository.getReferenceById(userId)).thenReturn(existingUser);
+        when(userRepository.findById(userId)).thenReturn(Optional.of(existingUser));
 
         UserResponse deletedUserResponse = new UserResponse();
         deletedUserResponse.setEmail(existingUser.getEmail());
@@ -215,7 +217,7 @@ class UserServiceImplTest {
         deletedUserResponse.setId(userId);
 
         when(userConverter.userConvertToUserResponse(existingUser)).thenReturn(deletedUserResponse);
-        doNothing().when(userRepository).deleteById(userId);
+        doNothing().when(userRepository).delete(existingUser);
 
 
         UserResponse actualResponse = userService.delete(userId);
@@ -224,9 +226,8 @@ class UserServiceImplTest {
         assertEquals(userId, actualResponse.getId());
         assertEquals(existingUser.getName(), actualResponse.getName());
         assertEquals(existingUser.getEmail(), actualResponse.getEmail());
-        verify(userRepository, times(1)).existsById(userId);
-        verify(userRepository, times(1)).getReferenceById(userId);
-        verify(userRepository, times(1)).deleteById(userId);
+        verify(userRepository, times(1)).findById(userId);
+        verify(userRepository, times(1)).delete(existingUser);
         verify(userConverter, times(1)).userConvertToUserResponse(existingUser);
     }
 
@@ -234,11 +235,11 @@ class UserServiceImplTest {
     public void testDelete_UserDoesNotExist_ThrowsException() {
         Long userId = 1L;
 
-        when(userRepository.existsById(userId)).thenReturn(false);
+        when(userRepository.findById(userId)).thenReturn(Optional.empty());
 
         assertThrows(NotFoundException.class, () -> userService.delete(userId));
 
-        verify(userRepository, never()).deleteById(userId);
+        verify(userRepository, never()).delete(any());
     }
 
     @Test
@@ -281,10 +282,48 @@ class UserServiceImplTest {
         assertTrue(actualResponseList.isEmpty());
     }
 
+    @Test
+    void testGetUserSnapshot_CalledTwice_LoadsUserOnce() {
+        Long userId = 1L;
+        User user = new User();
+        user.setId(userId);
+        user.setName("name");
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+
+        UserSnapshot first = userService.getUserSnapshot(userId);
+        UserSnapshot second = userService.getUserSnapshot(userId);
+
+        assertEquals(UserSnapshot.of(user), first);
+        assertSame(first, second);
+        verify(userRepository, times(1)).findById(userId);
+        verify(userRepository, never()).existsById(any());
+    }
+
+    @Test
+    void testGetExistingUser_UserExists_ReturnsReference() {
+        Long userId = 1L;
+        User user = new User();
+        user.setId(userId);
+        User reference = new User();
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(userRepository.getReferenceById(userId)).thenReturn(reference);
+
+        assertSame(reference, userService.getExistingUser(userId));
+    }
+
+    @Test
+    void testGetExistingUser_UserDoesNotExist_ThrowsWithoutReference() {
+        Long userId = 1L;
+        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class, () -> userService.getExistingUser(userId));
+        verify(userRepository, never()).getReferenceById(any());
+    }
+
     @Test
     void testCheckUserDoesntExistAndThrowIfNotFound_UserExists() {
         Long userId = 1L;
-        when(userRepository.existsById(userId)).thenReturn(true);
+        when(userRepository.findById(userId)).thenReturn(Optional.of(new User()));
 
         assertDoesNotThrow(() -> userService.checkUserDoesntExistAndThrowIfNotFound(userId));
     }
@@ -292,7 +331,7 @@ class UserServiceImplTest {
     @Test
     void testCheckUserDoesntExistAndThrowIfNotFound_UserDoesNotExist() {
         Long userId = 1L;
-        when(userRepository.existsById(userId)).thenReturn(false);
+        when(userRepository.findById(userId)).thenReturn(Optional.empty());
 
         NotFoundException exception = assertThrows(NotFoundException.class, () -> userService.checkUserDoesntExistAndThrowIfNotFound(userId));
         assertEquals("User not found with ID: " + userId, exception.getMessage());
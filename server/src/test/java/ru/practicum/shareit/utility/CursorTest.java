@@ -0,0 +1,40 @@
+package ru.practicum.shareit.utility;
+
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.handler.ValidationException;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CursorTest {
+
+    @Test
+    void testEncodeDecode_TimeAndId_ReturnsEqualCursor() {
+        Cursor cursor = new Cursor(LocalDateTime.of(2024, 1, 2, 3, 4, 5, 6000), 42L);
+
+        assertEquals(cursor, Cursor.decode(cursor.encode()));
+        assertEquals(cursor, Cursor.decodeWithTime(cursor.encode()));
+    }
+
+    @Test
+    void testEncodeDecode_IdOnly_ReturnsCursorWithoutTime() {
+        Cursor cursor = Cursor.decode(Cursor.of(7L).encode());
+
+        assertNull(cursor.getTime());
+        assertEquals(7L, cursor.getId());
+    }
+
+    @Test
+    void testDecodeWithTime_IdOnlyCursor_ThrowsValidationException() {
+        String value = Cursor.of(7L).encode();
+
+        assertThrows(ValidationException.class, () -> Cursor.decodeWithTime(value));
+    }
+
+    @Test
+    void testDecode_Garbage_ThrowsValidationException() {
+        assertThrows(ValidationException.class, () -> Cursor.decode("not a cursor!"));
+        assertThrows(ValidationException.class, () -> Cursor.decode("bm9zZXBhcmF0b3I"));
+    }
+}
@@ -2,8 +2,11 @@ package ru.practicum.shareit.utility;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
 import ru.practicum.shareit.handler.ValidationException;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class PaginationUtilTest {
@@ -44,4 +47,29 @@ class PaginationUtilTest {
 
         assertThrows(ValidationException.class, () -> PaginationUtil.getPageable(from, size));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testGetCursorPageable_Size_ReturnsFirstPage() {
+        Pageable pageable = PaginationUtil.getCursorPageable(5L);
+
+        assertEquals(0, pageable.getPageNumber());
+        assertEquals(5, pageable.getPageSize());
+        assertTrue(PaginationUtil.getCursorPageable(null).isUnpaged());
+        assertThrows(ValidationException.class, () -> PaginationUtil.getCursorPageable(0L));
+    }
+
+    @Test
+    void testWithNextCursor_FullPage_SetsNextCursorHeader() {
+        ResponseEntity<List<Long>> response = PaginationUtil.withNextCursor(List.of(1L, 2L), 2L, Cursor::of);
+
+        assertEquals(Cursor.of(2L).encode(), response.getHeaders().getFirst(ControllerConstants.xNextCursor));
+        assertEquals(List.of(1L, 2L), response.getBody());
+    }
+
+    @Test
+    void testWithNextCursor_LastPage_OmitsNextCursorHeader() {
+        ResponseEntity<List<Long>> response = PaginationUtil.withNextCursor(List.of(1L), 2L, Cursor::of);
+
+        assertFalse(response.getHeaders().containsKey(ControllerConstants.xNextCursor));
+    }
+}
@@ -0,0 +1,20 @@
+package ru.practicum.shareit.utility;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static ru.practicum.shareit.config.SqlStatementMetricsFilter.statementsAttribute;
+
+public class SqlStatementMatchers {
+
+    public static ResultMatcher sqlStatementsAtMost(int budget) {
+        return result -> {
+            Integer statements = (Integer) result.getRequest().getAttribute(statementsAttribute);
+            assertNotNull(statements, "SQL statements were not counted, SqlStatementMetricsFilter is not registered");
+            assertTrue(statements <= budget, () -> result.getRequest().getMethod() + " "
+                    + result.getRequest().getRequestURI() + " issued " + statements
+                    + " SQL statements, budget is " + budget);
+        };
+    }
+}